@@ -1,9 +1,15 @@
 package cms.admin.controller;
 
+import cms.config.CacheConfig;
 import cms.config.DynamicDataSourceConfiguration;
+import cms.config.TenantAdmissionLimiter;
+import cms.config.TenantCircuitBreaker;
+import cms.config.TenantRegistry;
+import cms.config.TenantResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,6 +30,21 @@ public class TenantManagementController {
     @Autowired
     private DynamicDataSourceConfiguration.DynamicDataSourceManager dataSourceManager;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
+    @Autowired
+    private TenantResolver tenantResolver;
+
+    @Autowired
+    private TenantAdmissionLimiter admissionLimiter;
+
+    @Autowired
+    private TenantCircuitBreaker circuitBreaker;
+
     /**
      * 새 테넌트 추가
      */
@@ -33,12 +54,29 @@ public class TenantManagementController {
             @RequestBody TenantCreateRequest request) {
 
         try {
-            // 데이터소스 생성
-            dataSourceManager.createTenantDataSource(
-                    tenantId,
-                    request.getUrl(),
-                    request.getUsername(),
-                    request.getPassword());
+            if ("SCHEMA".equalsIgnoreCase(request.getIsolation())) {
+                // 공유 풀 + 스키마 전환 (전용 풀 없음)
+                dataSourceManager.registerSchemaTenant(
+                        tenantId,
+                        request.getSchema() != null ? request.getSchema() : tenantId);
+            } else {
+                // 데이터소스 생성
+                dataSourceManager.createTenantDataSource(
+                        tenantId,
+                        request.getUrl(),
+                        request.getUsername(),
+                        request.getPassword());
+            }
+
+            // 읽기 전용 복제본 (선택)
+            if (request.getReplicaUrl() != null && !request.getReplicaUrl().trim().isEmpty()) {
+                dataSourceManager.createReplicaDataSource(
+                        tenantId,
+                        request.getReplicaUrl(),
+                        request.getReplicaUsername() != null ? request.getReplicaUsername() : request.getUsername(),
+                        request.getReplicaPassword() != null ? request.getReplicaPassword() : request.getPassword());
+            }
+            tenantRegistry.register(tenantId);
 
             logger.info("Successfully created tenant: {}", tenantId);
             Map<String, Object> response = new HashMap<>();
@@ -71,6 +109,10 @@ public class TenantManagementController {
 
         try {
             dataSourceManager.removeDataSource(tenantId);
+            tenantRegistry.unregister(tenantId);
+            if (cacheManager instanceof CacheConfig.TenantAwareCacheManager) {
+                ((CacheConfig.TenantAwareCacheManager) cacheManager).evictTenant(tenantId);
+            }
 
             logger.info("Successfully removed tenant: {}", tenantId);
             Map<String, Object> response = new HashMap<>();
@@ -100,6 +142,10 @@ public class TenantManagementController {
             response.put("success", true);
             response.put("tenants", dataSourceInfo);
             response.put("totalTenants", dataSourceInfo.size());
+            response.put("hibernatedTenants", dataSourceManager.getPoolStates().values().stream()
+                    .filter(state -> state == DynamicDataSourceConfiguration.PoolState.HIBERNATED)
+                    .count());
+            response.put("circuitBreakers", circuitBreaker.getStates());
             return ResponseEntity.ok(response);
 
         } catch (Exception e) {
@@ -111,6 +157,43 @@ public class TenantManagementController {
         }
     }
 
+    /**
+     * 테넌트 레지스트리 및 식별 통계 조회
+     */
+    @GetMapping("/registry")
+    public ResponseEntity<?> getTenantRegistry() {
+        TenantRegistry.Snapshot snapshot = tenantRegistry.current();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("tenants", snapshot.getTenantIds());
+        response.put("hosts", snapshot.hostMappings());
+        response.put("resolutionCounts", tenantResolver.getResolutionCounts());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 테넌트 레지스트리 즉시 다시 로드
+     */
+    @PostMapping("/registry/reload")
+    public ResponseEntity<?> reloadTenantRegistry() {
+        try {
+            tenantRegistry.reload();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("tenants", tenantRegistry.current().getTenantIds());
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            logger.error("Failed to reload tenant registry", e);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "Failed to reload tenant registry: " + e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
     /**
      * 특정 테넌트 정보 조회
      */
@@ -142,6 +225,44 @@ public class TenantManagementController {
         }
     }
 
+    /**
+     * 테넌트 요청 허용 한도 및 현재 처리 중 요청 수 조회
+     */
+    @GetMapping("/{tenantId}/limits")
+    public ResponseEntity<?> getTenantLimits(@PathVariable String tenantId) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("tenantId", tenantId);
+        response.put("limits", admissionLimiter.getStatus(tenantId));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 테넌트 요청 허용 한도 변경 (지정한 항목만 변경)
+     */
+    @PutMapping("/{tenantId}/limits")
+    public ResponseEntity<?> updateTenantLimits(
+            @PathVariable String tenantId,
+            @RequestBody TenantAdmissionLimiter.LimitSpec request) {
+
+        try {
+            admissionLimiter.updateLimits(tenantId, request);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("tenantId", tenantId);
+            response.put("limits", admissionLimiter.getStatus(tenantId));
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            logger.error("Failed to update tenant limits: {}", tenantId, e);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "Failed to update tenant limits: " + e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
     /**
      * 테넌트 헬스체크
      */
@@ -149,12 +270,15 @@ public class TenantManagementController {
     public ResponseEntity<?> checkTenantHealth(@PathVariable String tenantId) {
         try {
             // 실제로는 데이터베이스 연결 테스트를 수행
-            boolean isHealthy = dataSourceManager.hasDataSource(tenantId);
+            TenantCircuitBreaker.State circuitState = circuitBreaker.getState(tenantId);
+            boolean isHealthy = dataSourceManager.hasDataSource(tenantId)
+                    && circuitState != TenantCircuitBreaker.State.OPEN;
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("tenantId", tenantId);
             response.put("healthy", isHealthy);
+            response.put("circuitState", circuitState);
             response.put("timestamp", System.currentTimeMillis());
             return ResponseEntity.ok(response);
 
@@ -175,6 +299,11 @@ public class TenantManagementController {
         private String username;
         private String password;
         private String description;
+        private String isolation; // DATABASE(기본, 전용 풀) | SCHEMA(공유 풀)
+        private String schema; // SCHEMA 격리 시 스키마명 (미지정 시 테넌트 ID)
+        private String replicaUrl;
+        private String replicaUsername;
+        private String replicaPassword;
 
         // Getters and Setters
         public String getUrl() {
@@ -208,5 +337,45 @@ public class TenantManagementController {
         public void setDescription(String description) {
             this.description = description;
         }
+
+        public String getIsolation() {
+            return isolation;
+        }
+
+        public void setIsolation(String isolation) {
+            this.isolation = isolation;
+        }
+
+        public String getSchema() {
+            return schema;
+        }
+
+        public void setSchema(String schema) {
+            this.schema = schema;
+        }
+
+        public String getReplicaUrl() {
+            return replicaUrl;
+        }
+
+        public void setReplicaUrl(String replicaUrl) {
+            this.replicaUrl = replicaUrl;
+        }
+
+        public String getReplicaUsername() {
+            return replicaUsername;
+        }
+
+        public void setReplicaUsername(String replicaUsername) {
+            this.replicaUsername = replicaUsername;
+        }
+
+        public String getReplicaPassword() {
+            return replicaPassword;
+        }
+
+        public void setReplicaPassword(String replicaPassword) {
+            this.replicaPassword = replicaPassword;
+        }
     }
 }
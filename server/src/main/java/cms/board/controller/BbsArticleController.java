@@ -1,6 +1,9 @@
 package cms.board.controller;
 
 import cms.board.dto.BbsArticleDto;
+import cms.board.dto.BbsArticleSliceDto;
+import cms.board.dto.BbsArticleSummaryDto;
+import cms.board.service.BbsArticleListCache;
 import cms.board.service.BbsArticleService;
 import cms.common.dto.ApiResponseSchema;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,9 +12,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.http.MediaType;
 
@@ -24,35 +31,80 @@ import java.util.List;
 public class BbsArticleController {
 
     private final BbsArticleService bbsArticleService;
+    private final BbsArticleListCache listCache;
 
     @Operation(summary = "게시글 목록 조회", description = "특정 게시판의 게시글 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponseSchema<Page<BbsArticleDto>>> getArticles(
+    public ResponseEntity<ApiResponseSchema<Page<BbsArticleSummaryDto>>> getArticles(
             @RequestParam Long bbsId,
             @RequestParam Long menuId,
             @RequestParam(required = false) String keyword,
             Pageable pageable,
-            Authentication authentication) {
+            Authentication authentication,
+            WebRequest webRequest) {
 
         boolean isAdmin = authentication != null &&
                 authentication.getAuthorities().stream()
                         .anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("ROLE_ADMIN"));
 
-        Page<BbsArticleDto> articles;
+        // 공개 목록: 목록 버전 ETag 가 일치하면 DB 조회 없이 304
+        String etag = isAdmin ? null : listCache.getBoardEtag(bbsId, menuId);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        Page<BbsArticleSummaryDto> articles;
         if (keyword != null && !keyword.trim().isEmpty()) {
             articles = bbsArticleService.searchArticles(bbsId, menuId, keyword, pageable, isAdmin);
         } else {
             articles = bbsArticleService.getArticles(bbsId, menuId, pageable, isAdmin);
         }
 
-        return ResponseEntity.ok(ApiResponseSchema.success(articles));
+        if (etag == null) {
+            return ResponseEntity.ok(ApiResponseSchema.success(articles));
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache())
+                .body(ApiResponseSchema.success(articles));
+    }
+
+    @Operation(summary = "게시글 커서 목록 조회", description = "커서 기반으로 게시글 목록을 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponseSchema<BbsArticleSliceDto>> getArticlesByCursor(
+            @RequestParam Long bbsId,
+            @RequestParam Long menuId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 게시글 수 포함 여부") @RequestParam(defaultValue = "false") boolean includeTotal,
+            Authentication authentication) {
+
+        boolean isAdmin = authentication != null &&
+                authentication.getAuthorities().stream()
+                        .anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("ROLE_ADMIN"));
+
+        return ResponseEntity.ok(ApiResponseSchema.success(
+                bbsArticleService.getArticlesByCursor(bbsId, menuId, cursor, size, includeTotal, isAdmin)));
     }
 
     @Operation(summary = "게시글 상세 조회", description = "특정 게시글의 상세 정보를 조회합니다.")
     @GetMapping("/{nttId}")
     public ResponseEntity<ApiResponseSchema<BbsArticleDto>> getArticle(
+            @Parameter(description = "게시글 ID") @PathVariable Long nttId,
+            WebRequest webRequest) {
+        // 게시글 버전 ETag 가 일치하면 DB 조회 없이 304 (조회수는 메모리 누적이므로 그대로 반영)
+        String etag = listCache.getArticleEtag(nttId);
+        if (webRequest.checkNotModified(etag)) {
+            bbsArticleService.increaseHits(nttId);
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache())
+                .body(ApiResponseSchema.success(bbsArticleService.getArticle(nttId), "게시글을 성공적으로 조회했습니다."));
+    }
+
+    @Operation(summary = "게시글 스레드 조회", description = "게시글과 모든 하위 답변을 스레드 순서로 조회합니다.")
+    @GetMapping("/{nttId}/thread")
+    public ResponseEntity<ApiResponseSchema<List<BbsArticleSummaryDto>>> getThread(
             @Parameter(description = "게시글 ID") @PathVariable Long nttId) {
-        return ResponseEntity.ok(ApiResponseSchema.success(bbsArticleService.getArticle(nttId), "게시글을 성공적으로 조회했습니다."));
+        return ResponseEntity.ok(ApiResponseSchema.success(bbsArticleService.getThread(nttId)));
     }
 
     @Operation(summary = "게시글 생성", description = "새로운 게시글을 생성합니다.")
@@ -81,6 +133,18 @@ public class BbsArticleController {
         return ResponseEntity.ok(ApiResponseSchema.success(null, "게시글이 성공적으로 수정되었습니다."));
     }
 
+    @Operation(summary = "게시글 검색 색인 재구성", description = "현재 테넌트의 게시글 검색 색인을 비동기로 재구성합니다.")
+    @PostMapping("/search-index/rebuild")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SYSTEM_ADMIN')")
+    public ResponseEntity<ApiResponseSchema<Void>> rebuildSearchIndex() {
+        if (!bbsArticleService.rebuildSearchIndex()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponseSchema.error("검색 색인 재구성이 이미 진행 중입니다.", "SEARCH_INDEX_REBUILDING"));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseSchema.success("검색 색인 재구성을 시작했습니다."));
+    }
+
     @Operation(summary = "게시글 삭제", description = "게시글을 삭제합니다.")
     @DeleteMapping("/{nttId}")
     public ResponseEntity<ApiResponseSchema<Void>> deleteArticle(
@@ -8,6 +8,7 @@ import javax.persistence.*;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
 @Table(name = "bbs_article", indexes = {
@@ -15,6 +16,9 @@ import java.time.LocalDateTime;
     @Index(name = "IDX_BBS_ARTICLE_PARENT_NTT_ID", columnList = "parent_ntt_id"),
     @Index(name = "IDX_BBS_ARTICLE_NOTICE_STATE", columnList = "notice_state"),
     @Index(name = "IDX_BBS_ARTICLE_PUBLISH_STATE", columnList = "publish_state"),
+    @Index(name = "IDX_BBS_ARTICLE_LIST_KEYSET", columnList = "bbs_id, menu_id, notice_state, created_at, ntt_id"),
+    @Index(name = "IDX_BBS_ARTICLE_THREAD_PATH", columnList = "thread_path"),
+    @Index(name = "IDX_BBS_ARTICLE_NEXT_TRANSITION", columnList = "next_transition_at"),
     @Index(name = "IDX_BBS_ARTICLE_CONTENT", columnList = "content")
 })
 @Getter
@@ -38,6 +42,13 @@ public class BbsArticleDomain {
     @Column(nullable = false)
     private int threadDepth;
 
+    /**
+     * 스레드 경로 (루트부터 자신까지 10자리 nttId + '/', 예: 0000000012/0000000057/)
+     * - 접두사 LIKE 로 하위 스레드 전체를 한 번에 조회/삭제, 경로 정렬이 곧 스레드 표시 순서
+     */
+    @Column(name = "thread_path", length = 255)
+    private String threadPath;
+
     @Column(nullable = false, length = 50)
     private String writer;
 
@@ -65,6 +76,22 @@ public class BbsArticleDomain {
     @Column
     private LocalDateTime publishEndDt;
 
+    /**
+     * 작성자가 지정한 게시/공지 상태 (notice_state, publish_state 는 기간을 반영한 현재 상태)
+     * - 'Y' 는 기간 안에서만 유효, 기간 경계 시각에 BbsArticleVisibilityScheduler 가 현재 상태를 전환
+     */
+    @Column(name = "requested_publish_state", length = 1)
+    private String requestedPublishState;
+
+    @Column(name = "requested_notice_state", length = 1)
+    private String requestedNoticeState;
+
+    /**
+     * 다음 기간 경계 시각 (없으면 null)
+     */
+    @Column(name = "next_transition_at")
+    private LocalDateTime nextTransitionAt;
+
     @Column(length = 255)
     private String externalLink;
 
@@ -117,21 +144,80 @@ public class BbsArticleDomain {
         this.writer = writer;
         this.title = title;
         this.content = content;
-        this.noticeState = noticeState;
+        this.requestedNoticeState = noticeState;
         this.noticeStartDt = noticeStartDt;
         this.noticeEndDt = noticeEndDt;
-        this.publishState = publishState;
+        this.requestedPublishState = publishState;
         this.publishStartDt = publishStartDt;
         this.publishEndDt = publishEndDt;
         this.externalLink = externalLink;
         this.hasImageInContent = hasImage;
+        applyVisibilityWindow(LocalDateTime.now());
+    }
+
+    /**
+     * 지정 상태와 기간으로 현재 게시/공지 상태와 다음 전환 시각 계산
+     *
+     * @return 현재 게시/공지 상태가 바뀌었으면 true
+     */
+    public boolean applyVisibilityWindow(LocalDateTime now) {
+        if (requestedPublishState == null) {
+            requestedPublishState = publishState;
+        }
+        if (requestedNoticeState == null) {
+            requestedNoticeState = noticeState;
+        }
+        String publish = effectiveState(requestedPublishState, publishStartDt, publishEndDt, now);
+        String notice = effectiveState(requestedNoticeState, noticeStartDt, noticeEndDt, now);
+        boolean changed = !Objects.equals(publish, publishState) || !Objects.equals(notice, noticeState);
+        this.publishState = publish;
+        this.noticeState = notice;
+
+        LocalDateTime next = null;
+        if ("Y".equals(requestedPublishState)) {
+            next = earliestAfter(now, next, publishStartDt, publishEndDt);
+        }
+        if ("Y".equals(requestedNoticeState)) {
+            next = earliestAfter(now, next, noticeStartDt, noticeEndDt);
+        }
+        this.nextTransitionAt = next;
+        return changed;
+    }
+
+    private static String effectiveState(String requested, LocalDateTime start, LocalDateTime end,
+            LocalDateTime now) {
+        if (!"Y".equals(requested)) {
+            return requested;
+        }
+        boolean started = start == null || !now.isBefore(start);
+        boolean ended = end != null && !now.isBefore(end);
+        return started && !ended ? "Y" : "N";
+    }
+
+    private static LocalDateTime earliestAfter(LocalDateTime now, LocalDateTime current, LocalDateTime... candidates) {
+        LocalDateTime earliest = current;
+        for (LocalDateTime candidate : candidates) {
+            if (candidate != null && candidate.isAfter(now) && (earliest == null || candidate.isBefore(earliest))) {
+                earliest = candidate;
+            }
+        }
+        return earliest;
     }
 
     public void increaseHits() {
         this.hits++;
     }
 
-    public void setContent(String content) {
+    /**
+     * 저장 후(nttId 발급 후) 부모 경로에 자신의 ID 를 붙여 스레드 경로 지정
+     */
+    public void assignThreadPath() {
+        String parentPath = parentArticle != null ? parentArticle.getThreadPath() : null;
+        this.threadPath = (parentPath != null ? parentPath : "") + String.format("%010d/", nttId);
+    }
+
+    public void updateContent(String content, boolean hasImageInContent) {
         this.content = content;
+        this.hasImageInContent = hasImageInContent;
     }
 } 
\ No newline at end of file
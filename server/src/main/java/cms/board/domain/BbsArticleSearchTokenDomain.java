@@ -0,0 +1,35 @@
+package cms.board.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 게시글 검색용 역색인 (바이그램 토큰 -> 게시글)
+ * - 행 관리는 BbsArticleSearchIndexer 가 담당, 엔티티는 JPQL 검색 조건(서브쿼리)에만 사용
+ */
+@Entity
+@Table(name = "bbs_article_search_token", indexes = {
+    @Index(name = "IDX_BBS_ARTICLE_SEARCH_TOKEN_NTT_ID", columnList = "ntt_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BbsArticleSearchTokenDomain {
+
+    @EmbeddedId
+    private BbsArticleSearchTokenId id;
+
+    @Embeddable
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class BbsArticleSearchTokenId implements java.io.Serializable {
+        @Column(name = "token", nullable = false, length = 8)
+        private String token;
+
+        @Column(name = "ntt_id", nullable = false)
+        private Long nttId;
+    }
+}
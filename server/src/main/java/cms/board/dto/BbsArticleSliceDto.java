@@ -0,0 +1,26 @@
+package cms.board.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "게시글 커서 페이지")
+public class BbsArticleSliceDto {
+    @Schema(description = "게시글 목록")
+    private List<BbsArticleSummaryDto> content;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "전체 게시글 수 (includeTotal=true 인 경우에만)")
+    private Long totalElements;
+}
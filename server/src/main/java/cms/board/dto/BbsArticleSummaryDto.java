@@ -0,0 +1,114 @@
+package cms.board.dto;
+
+import cms.board.domain.BbsMasterDomain.BbsSkinType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록/검색용 요약 (본문 content, 첨부파일 상세 제외)
+ * - BbsArticleRepository 의 JPQL 생성자 표현식으로 직접 조회
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "게시글 요약 정보")
+public class BbsArticleSummaryDto {
+    @Schema(description = "게시글 ID")
+    private Long nttId;
+
+    @Schema(description = "게시판 ID")
+    private Long bbsId;
+
+    @Schema(description = "부모 게시글 ID")
+    private Long parentNttId;
+
+    @Schema(description = "답변 깊이")
+    private Integer threadDepth;
+
+    @Schema(description = "작성자")
+    private String writer;
+
+    @Schema(description = "제목")
+    private String title;
+
+    @Schema(description = "공지 상태", example = "N", allowableValues = {"N", "Y", "P"})
+    private String noticeState;
+
+    @Schema(description = "공지 시작일")
+    private LocalDateTime noticeStartDt;
+
+    @Schema(description = "공지 종료일")
+    private LocalDateTime noticeEndDt;
+
+    @Schema(description = "게시 상태", example = "Y", allowableValues = {"N", "Y", "P"})
+    private String publishState;
+
+    @Schema(description = "게시 시작일")
+    private LocalDateTime publishStartDt;
+
+    @Schema(description = "게시 종료일")
+    private LocalDateTime publishEndDt;
+
+    @Schema(description = "외부 링크")
+    private String externalLink;
+
+    @Schema(description = "조회수")
+    private Integer hits;
+
+    @Schema(description = "내용 중 이미지 포함 여부")
+    private boolean hasImageInContent;
+
+    @Schema(description = "첨부파일 존재 여부")
+    private boolean hasAttachment;
+
+    @Schema(description = "첨부파일 수")
+    private long attachmentCount;
+
+    @Schema(description = "생성 일시")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "수정 일시")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "게시판 스킨 타입")
+    private String skinType;
+
+    @Schema(description = "메뉴 ID")
+    private Long menuId;
+
+    @Schema(description = "순번")
+    private Integer no;
+
+    public BbsArticleSummaryDto(Long nttId, Long bbsId, Long parentNttId, int threadDepth, String writer,
+            String title, String noticeState, LocalDateTime noticeStartDt, LocalDateTime noticeEndDt,
+            String publishState, LocalDateTime publishStartDt, LocalDateTime publishEndDt, String externalLink,
+            int hits, boolean hasImageInContent, LocalDateTime createdAt, LocalDateTime updatedAt,
+            BbsSkinType skinType, Long menuId) {
+        this.nttId = nttId;
+        this.bbsId = bbsId;
+        this.parentNttId = parentNttId;
+        this.threadDepth = threadDepth;
+        this.writer = writer;
+        this.title = title;
+        this.noticeState = noticeState;
+        this.noticeStartDt = noticeStartDt;
+        this.noticeEndDt = noticeEndDt;
+        this.publishState = publishState;
+        this.publishStartDt = publishStartDt;
+        this.publishEndDt = publishEndDt;
+        this.externalLink = externalLink;
+        this.hits = hits;
+        this.hasImageInContent = hasImageInContent;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.skinType = skinType != null ? skinType.name() : null;
+        this.menuId = menuId;
+    }
+
+    public void setAttachmentCount(long attachmentCount) {
+        this.attachmentCount = attachmentCount;
+        this.hasAttachment = attachmentCount > 0;
+    }
+}
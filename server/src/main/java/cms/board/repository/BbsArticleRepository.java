@@ -1,65 +1,154 @@
 package cms.board.repository;
 
 import cms.board.domain.BbsArticleDomain;
+import cms.board.dto.BbsArticleSummaryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BbsArticleRepository extends JpaRepository<BbsArticleDomain, Long> {
 
-        @Query("SELECT a FROM BbsArticleDomain a WHERE a.bbsMaster.bbsId = :bbsId AND a.menu.id = :menuId AND a.publishState IN ('Y', 'P') ORDER BY a.noticeState DESC, a.createdAt DESC")
+        /**
+         * 목록용 요약 조회 (TEXT content 컬럼 제외, 첨부파일 수는 FileService.countByMenuIds 로 페이지 단위 조회)
+         */
+        String SUMMARY_SELECT = "SELECT new cms.board.dto.BbsArticleSummaryDto(a.nttId, b.bbsId, p.nttId, a.threadDepth, a.writer, a.title, a.noticeState, a.noticeStartDt, a.noticeEndDt, a.publishState, a.publishStartDt, a.publishEndDt, a.externalLink, a.hits, a.hasImageInContent, a.createdAt, a.updatedAt, b.skinType, m.id) "
+                        + "FROM BbsArticleDomain a JOIN a.bbsMaster b LEFT JOIN a.menu m LEFT JOIN a.parentArticle p ";
+
+        String COUNT_SELECT = "SELECT count(a) FROM BbsArticleDomain a ";
+
+        String LIST_ORDER = " ORDER BY a.noticeState DESC, a.createdAt DESC";
+
+        String KEYSET_ORDER = " ORDER BY a.noticeState DESC, a.createdAt DESC, a.nttId DESC";
+
+        String BOARD_MENU = "WHERE a.bbsMaster.bbsId = :bbsId AND a.menu.id = :menuId";
+
+        String PUBLISHED = " AND a.publishState IN ('Y', 'P')";
+
+        String KEYWORD_LIKE = " AND (a.title LIKE %:keyword% OR a.content LIKE %:keyword% OR a.writer LIKE %:keyword% OR FUNCTION('TO_CHAR', a.createdAt, 'YYYY-MM-DD') LIKE %:keyword%)";
+
+        String KEYSET_AFTER = " AND (a.noticeState < :noticeState OR (a.noticeState = :noticeState AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.nttId < :nttId))))";
+
+        String TOKEN_MATCH = " AND a.nttId IN (SELECT t.id.nttId FROM BbsArticleSearchTokenDomain t WHERE t.id.token IN :tokens GROUP BY t.id.nttId HAVING COUNT(t.id.nttId) = :tokenCount)";
+
+        /**
+         * 목록 페이지 내용 (전체 건수는 COUNT 대신 BbsArticleCounter 사용)
+         */
+        @Query(SUMMARY_SELECT + BOARD_MENU + PUBLISHED + LIST_ORDER)
         @NonNull
-        Page<BbsArticleDomain> findPublishedByBbsIdAndMenuId(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
+        List<BbsArticleSummaryDto> findPublishedByBbsIdAndMenuId(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
                         @NonNull Pageable pageable);
 
-        @Query("SELECT a FROM BbsArticleDomain a WHERE a.bbsMaster.bbsId = :bbsId AND a.menu.id = :menuId ORDER BY a.noticeState DESC, a.createdAt DESC")
+        @Query(SUMMARY_SELECT + BOARD_MENU + LIST_ORDER)
         @NonNull
-        Page<BbsArticleDomain> findAllByBbsIdAndMenuId(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
+        List<BbsArticleSummaryDto> findAllByBbsIdAndMenuId(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
                         @NonNull Pageable pageable);
 
+        @EntityGraph(attributePaths = { "bbsMaster", "menu" })
         @Query("SELECT a FROM BbsArticleDomain a WHERE a.bbsMaster.bbsId = :bbsId AND a.menu.id = :menuId AND a.parentArticle IS NULL AND a.publishState IN ('Y', 'P') ORDER BY a.noticeState DESC, a.createdAt DESC")
         Page<BbsArticleDomain> findRootArticlesByBbsIdAndMenuId(@Param("bbsId") Long bbsId,
                         @Param("menuId") Long menuId,
                         Pageable pageable);
 
-        @Query("SELECT a FROM BbsArticleDomain a WHERE a.bbsMaster.bbsId = :bbsId AND a.parentArticle.nttId = :parentNttId AND a.publishState IN ('Y', 'P') ORDER BY a.createdAt ASC")
-        Page<BbsArticleDomain> findRepliesByParentNttId(@Param("bbsId") Long bbsId,
+        @Query(value = SUMMARY_SELECT + "WHERE a.bbsMaster.bbsId = :bbsId AND p.nttId = :parentNttId" + PUBLISHED + " ORDER BY a.createdAt ASC",
+                        countQuery = COUNT_SELECT + "WHERE a.bbsMaster.bbsId = :bbsId AND a.parentArticle.nttId = :parentNttId" + PUBLISHED)
+        Page<BbsArticleSummaryDto> findReplySummariesByParentNttId(@Param("bbsId") Long bbsId,
                         @Param("parentNttId") Long parentNttId,
                         Pageable pageable);
 
-        @Query("SELECT a FROM BbsArticleDomain a WHERE a.bbsMaster.bbsId = :bbsId AND a.menu.id = :menuId AND (a.title LIKE %:keyword% OR a.content LIKE %:keyword% OR a.writer LIKE %:keyword% OR FUNCTION('TO_CHAR', a.createdAt, 'YYYY-MM-DD') LIKE %:keyword%) AND a.publishState IN ('Y', 'P') ORDER BY a.noticeState DESC, a.createdAt DESC")
-        Page<BbsArticleDomain> searchPublishedByKeywordAndMenuId(@Param("bbsId") Long bbsId,
+        /**
+         * 스레드 전체 (루트 포함, 경로 순 = 답변 트리의 전위 순서)
+         */
+        @Query(SUMMARY_SELECT + "WHERE a.bbsMaster.bbsId = :bbsId AND a.threadPath LIKE CONCAT(:threadPath, '%')" + PUBLISHED + " ORDER BY a.threadPath ASC")
+        List<BbsArticleSummaryDto> findThreadSummaries(@Param("bbsId") Long bbsId,
+                        @Param("threadPath") String threadPath);
+
+        @Query("SELECT a.nttId FROM BbsArticleDomain a WHERE a.threadPath LIKE CONCAT(:threadPath, '%')")
+        List<Long> findSubtreeIds(@Param("threadPath") String threadPath);
+
+        /**
+         * 하위 스레드 일괄 삭제 (깊은 답변부터 삭제해 부모 FK 의 SET NULL 갱신 없음, 검색 토큰은 FK CASCADE)
+         */
+        @Modifying(flushAutomatically = true, clearAutomatically = true)
+        @Query(value = "DELETE FROM bbs_article WHERE thread_path LIKE CONCAT(:threadPath, '%') ORDER BY thread_depth DESC", nativeQuery = true)
+        int deleteSubtree(@Param("threadPath") String threadPath);
+
+        @Query(value = SUMMARY_SELECT + BOARD_MENU + KEYWORD_LIKE + PUBLISHED + LIST_ORDER,
+                        countQuery = COUNT_SELECT + BOARD_MENU + KEYWORD_LIKE + PUBLISHED)
+        Page<BbsArticleSummaryDto> searchPublishedByKeywordAndMenuId(@Param("bbsId") Long bbsId,
                         @Param("menuId") Long menuId,
                         @Param("keyword") String keyword, Pageable pageable);
 
-        @Query("SELECT a FROM BbsArticleDomain a WHERE a.bbsMaster.bbsId = :bbsId AND a.menu.id = :menuId AND (a.title LIKE %:keyword% OR a.content LIKE %:keyword% OR a.writer LIKE %:keyword% OR FUNCTION('TO_CHAR', a.createdAt, 'YYYY-MM-DD') LIKE %:keyword%) ORDER BY a.noticeState DESC, a.createdAt DESC")
-        Page<BbsArticleDomain> searchAllByKeywordAndMenuId(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
+        @Query(value = SUMMARY_SELECT + BOARD_MENU + KEYWORD_LIKE + LIST_ORDER,
+                        countQuery = COUNT_SELECT + BOARD_MENU + KEYWORD_LIKE)
+        Page<BbsArticleSummaryDto> searchAllByKeywordAndMenuId(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
                         @Param("keyword") String keyword, Pageable pageable);
 
+        /**
+         * 역색인 검색: 검색어의 모든 바이그램 토큰을 가진 게시글 (BbsArticleSearchIndexer)
+         */
+        @Query(value = SUMMARY_SELECT + BOARD_MENU + PUBLISHED + TOKEN_MATCH + LIST_ORDER,
+                        countQuery = COUNT_SELECT + BOARD_MENU + PUBLISHED + TOKEN_MATCH)
+        Page<BbsArticleSummaryDto> searchPublishedByTokensAndMenuId(@Param("bbsId") Long bbsId,
+                        @Param("menuId") Long menuId,
+                        @Param("tokens") Collection<String> tokens, @Param("tokenCount") long tokenCount,
+                        Pageable pageable);
+
+        @Query(value = SUMMARY_SELECT + BOARD_MENU + TOKEN_MATCH + LIST_ORDER,
+                        countQuery = COUNT_SELECT + BOARD_MENU + TOKEN_MATCH)
+        Page<BbsArticleSummaryDto> searchAllByTokensAndMenuId(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
+                        @Param("tokens") Collection<String> tokens, @Param("tokenCount") long tokenCount,
+                        Pageable pageable);
+
+        List<BbsArticleDomain> findTop200ByNttIdGreaterThanOrderByNttIdAsc(Long nttId);
+
+        /**
+         * 키셋 페이지네이션: (noticeState, createdAt, nttId) 내림차순, 커서 다음 행부터 (COUNT 없음)
+         */
+        @Query(SUMMARY_SELECT + BOARD_MENU + PUBLISHED + KEYSET_ORDER)
+        List<BbsArticleSummaryDto> findPublishedFirstSlice(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
+                        Pageable pageable);
+
+        @Query(SUMMARY_SELECT + BOARD_MENU + PUBLISHED + KEYSET_AFTER + KEYSET_ORDER)
+        List<BbsArticleSummaryDto> findPublishedSliceAfter(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
+                        @Param("noticeState") String noticeState, @Param("createdAt") LocalDateTime createdAt,
+                        @Param("nttId") Long nttId, Pageable pageable);
+
+        @Query(SUMMARY_SELECT + BOARD_MENU + KEYSET_ORDER)
+        List<BbsArticleSummaryDto> findAllFirstSlice(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
+                        Pageable pageable);
+
+        @Query(SUMMARY_SELECT + BOARD_MENU + KEYSET_AFTER + KEYSET_ORDER)
+        List<BbsArticleSummaryDto> findAllSliceAfter(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
+                        @Param("noticeState") String noticeState, @Param("createdAt") LocalDateTime createdAt,
+                        @Param("nttId") Long nttId, Pageable pageable);
+
         @Query("SELECT a FROM BbsArticleDomain a WHERE a.bbsMaster.bbsId = :bbsId AND a.noticeState IN ('Y', 'P') ORDER BY a.createdAt DESC")
         List<BbsArticleDomain> findNoticesByBbsId(@Param("bbsId") Long bbsId);
 
+        /**
+         * horizon 까지 게시/공지 기간 경계가 오는 게시글 (nttId, nextTransitionAt)
+         */
+        @Query("SELECT a.nttId, a.nextTransitionAt FROM BbsArticleDomain a WHERE a.nextTransitionAt <= :horizon")
+        List<Object[]> findTransitionsUntil(@Param("horizon") LocalDateTime horizon);
+
         @Lock(LockModeType.PESSIMISTIC_WRITE)
         @Query("SELECT a FROM BbsArticleDomain a WHERE a.nttId = :nttId")
         BbsArticleDomain findByIdForUpdate(@Param("nttId") Long nttId);
 
+        @EntityGraph(attributePaths = { "bbsMaster", "menu" })
         @Query("SELECT a FROM BbsArticleDomain a WHERE a.menu.id = :menuId AND a.publishState IN ('Y', 'P') ORDER BY a.noticeState DESC, a.createdAt DESC")
         Page<BbsArticleDomain> findByMenuId(@Param("menuId") Long menuId, Pageable pageable);
-
-        @Query("SELECT count(a) FROM BbsArticleDomain a WHERE a.bbsMaster.bbsId = :bbsId AND a.menu.id = :menuId AND a.noticeState <> :noticeState AND a.publishState IN ('Y', 'P')")
-        long countByBbsIdAndMenuIdAndNoticeStateNot(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
-                        @Param("noticeState") String noticeState);
-
-        @Query("SELECT count(a) FROM BbsArticleDomain a WHERE a.bbsMaster.bbsId = :bbsId AND a.menu.id = :menuId AND (a.title LIKE %:keyword% OR a.content LIKE %:keyword% OR a.writer LIKE %:keyword% OR FUNCTION('TO_CHAR', a.createdAt, 'YYYY-MM-DD') LIKE %:keyword%) AND a.publishState IN ('Y', 'P') AND a.noticeState <> :noticeState")
-        long countByBbsIdAndMenuIdAndKeywordAndNoticeStateNot(@Param("bbsId") Long bbsId, @Param("menuId") Long menuId,
-                        @Param("keyword") String keyword, @Param("noticeState") String noticeState);
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package cms.board.service;
+
+import cms.config.DynamicDataSourceConfiguration.TenantContext;
+import cms.config.TenantRegistry;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시판/메뉴별 게시글 수 (bbs_article_counter)
+ * - 게시글 생성/삭제/게시·공지 상태 변경 시 같은 트랜잭션에서 증감 (목록 COUNT(*) 대체)
+ * - 하위 스레드 삭제는 삭제 전에 집계한 만큼 한 번에 차감
+ * - 정합성 보정: 게시판 단위로 카운터 행을 잠근 뒤 실제 행 수로 덮어씀 (테넌트별, 매일 새벽)
+ */
+@Component
+@Slf4j
+public class BbsArticleCounter {
+
+    private static final String PUBLISHED = "publish_state IN ('Y', 'P')";
+    private static final String NOTICE = "notice_state IN ('Y', 'P')";
+
+    private static final String UPSERT_SQL = "INSERT INTO bbs_article_counter (bbs_id, menu_id, total_count, published_count, notice_count) "
+            + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE total_count = total_count + VALUES(total_count), "
+            + "published_count = published_count + VALUES(published_count), notice_count = notice_count + VALUES(notice_count)";
+    private static final String SUBTRACT_SUBTREE_SQL = "UPDATE bbs_article_counter c JOIN ("
+            + "SELECT bbs_id, menu_id, COUNT(*) AS total, SUM(" + PUBLISHED + ") AS published, SUM(" + NOTICE + ") AS notice "
+            + "FROM bbs_article WHERE thread_path LIKE CONCAT(?, '%') GROUP BY bbs_id, menu_id) d "
+            + "ON c.bbs_id = d.bbs_id AND c.menu_id = d.menu_id "
+            + "SET c.total_count = GREATEST(c.total_count - d.total, 0), "
+            + "c.published_count = GREATEST(c.published_count - d.published, 0), "
+            + "c.notice_count = GREATEST(c.notice_count - d.notice, 0)";
+    private static final String SELECT_COUNTS_SQL = "SELECT total_count, published_count, notice_count FROM bbs_article_counter WHERE bbs_id = ? AND menu_id = ?";
+    private static final String SELECT_BOARDS_SQL = "SELECT bbs_id, menu_id FROM bbs_article GROUP BY bbs_id, menu_id "
+            + "UNION SELECT bbs_id, menu_id FROM bbs_article_counter";
+    private static final String INSERT_EMPTY_SQL = "INSERT IGNORE INTO bbs_article_counter (bbs_id, menu_id) VALUES (?, ?)";
+    private static final String LOCK_SQL = "SELECT total_count FROM bbs_article_counter WHERE bbs_id = ? AND menu_id = ? FOR UPDATE";
+    private static final String COUNT_ACTUAL_SQL = "SELECT COUNT(*) AS total, COALESCE(SUM(" + PUBLISHED + "), 0) AS published, "
+            + "COALESCE(SUM(" + NOTICE + "), 0) AS notice FROM bbs_article WHERE bbs_id = ? AND menu_id = ?";
+    private static final String OVERWRITE_SQL = "UPDATE bbs_article_counter SET total_count = ?, published_count = ?, notice_count = ? "
+            + "WHERE bbs_id = ? AND menu_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TenantRegistry tenantRegistry;
+
+    public BbsArticleCounter(DataSource dataSource, PlatformTransactionManager transactionManager,
+            TenantRegistry tenantRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tenantRegistry = tenantRegistry;
+    }
+
+    public void onCreated(Long bbsId, Long menuId, String publishState, String noticeState) {
+        adjust(bbsId, menuId, 1, isOn(publishState) ? 1 : 0, isOn(noticeState) ? 1 : 0);
+    }
+
+    public void onStateChanged(Long bbsId, Long menuId, String oldPublishState, String oldNoticeState,
+            String newPublishState, String newNoticeState) {
+        int published = delta(oldPublishState, newPublishState);
+        int notice = delta(oldNoticeState, newNoticeState);
+        if (published != 0 || notice != 0) {
+            adjust(bbsId, menuId, 0, published, notice);
+        }
+    }
+
+    /**
+     * 하위 스레드 삭제 직전에 호출 (삭제될 행을 집계해 차감)
+     */
+    public void onSubtreeDeleting(String threadPath) {
+        jdbcTemplate.update(SUBTRACT_SUBTREE_SQL, threadPath);
+    }
+
+    public void onDeleted(Long bbsId, Long menuId, String publishState, String noticeState) {
+        adjust(bbsId, menuId, -1, isOn(publishState) ? -1 : 0, isOn(noticeState) ? -1 : 0);
+    }
+
+    /**
+     * 현재 테넌트의 게시판/메뉴 게시글 수 (카운터 행이 없으면 0)
+     */
+    public Counts getCounts(Long bbsId, Long menuId) {
+        List<Counts> counts = jdbcTemplate.query(SELECT_COUNTS_SQL,
+                (rs, rowNum) -> new Counts(rs.getLong(1), rs.getLong(2), rs.getLong(3)), bbsId, menuId);
+        return counts.isEmpty() ? new Counts(0, 0, 0) : counts.get(0);
+    }
+
+    @Scheduled(cron = "${app.board.counter.reconcile-cron:0 30 3 * * *}")
+    public void reconcileAllTenants() {
+        Set<String> tenants = new LinkedHashSet<>();
+        tenants.add(TenantContext.DEFAULT_TENANT);
+        tenants.addAll(tenantRegistry.current().getTenantIds());
+        for (String tenantId : tenants) {
+            TenantContext.setCurrentTenant(tenantId);
+            try {
+                int corrected = reconcile();
+                log.info("Reconciled board counters for tenant {}: {} boards corrected", tenantId, corrected);
+            } catch (Exception e) {
+                log.warn("Board counter reconciliation failed for tenant {}: {}", tenantId, e.getMessage());
+            } finally {
+                TenantContext.clear();
+            }
+        }
+    }
+
+    /**
+     * 현재 테넌트의 카운터를 실제 행 수로 보정 (게시판마다 짧은 트랜잭션)
+     *
+     * @return 값이 달라 보정한 게시판/메뉴 수
+     */
+    public int reconcile() {
+        List<long[]> boards = jdbcTemplate.query(SELECT_BOARDS_SQL,
+                (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) });
+        int corrected = 0;
+        for (long[] board : boards) {
+            Boolean changed = transactionTemplate.execute(status -> reconcileBoard(board[0], board[1]));
+            if (Boolean.TRUE.equals(changed)) {
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private boolean reconcileBoard(long bbsId, long menuId) {
+        jdbcTemplate.update(INSERT_EMPTY_SQL, bbsId, menuId);
+        // 카운터 행을 먼저 잠가 진행 중인 게시글 트랜잭션의 증감과 겹치지 않게 함
+        jdbcTemplate.queryForObject(LOCK_SQL, Long.class, bbsId, menuId);
+        Counts actual = jdbcTemplate.queryForObject(COUNT_ACTUAL_SQL,
+                (rs, rowNum) -> new Counts(rs.getLong(1), rs.getLong(2), rs.getLong(3)), bbsId, menuId);
+        Counts stored = getCounts(bbsId, menuId);
+        if (actual.equals(stored)) {
+            return false;
+        }
+        log.info("Board counter drift for bbsId={}, menuId={}: stored={}, actual={}", bbsId, menuId, stored, actual);
+        jdbcTemplate.update(OVERWRITE_SQL, actual.getTotal(), actual.getPublished(), actual.getNotice(), bbsId,
+                menuId);
+        return true;
+    }
+
+    private void adjust(Long bbsId, Long menuId, int total, int published, int notice) {
+        if (bbsId == null || menuId == null) {
+            return;
+        }
+        jdbcTemplate.update(UPSERT_SQL, bbsId, menuId, total, published, notice);
+    }
+
+    private static int delta(String oldState, String newState) {
+        return (isOn(newState) ? 1 : 0) - (isOn(oldState) ? 1 : 0);
+    }
+
+    private static boolean isOn(String state) {
+        return "Y".equals(state) || "P".equals(state);
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Counts {
+        private final long total;
+        private final long published;
+        private final long notice;
+    }
+}
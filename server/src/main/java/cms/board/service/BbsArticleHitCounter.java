@@ -0,0 +1,166 @@
+package cms.board.service;
+
+import cms.config.DynamicDataSourceConfiguration.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 게시글 조회수 지연 기록 (write-behind)
+ * - 조회 시 행 갱신 대신 (테넌트, nttId) 단위로 메모리에 누적, 잠금은 키 해시로 나눈 스트라이프 단위
+ * - 주기적으로(그리고 종료 시) 테넌트별 UPDATE ... SET hits = hits + ? 배치로 반영
+ * - 반영 실패 시 누적분을 되돌려 다음 주기에 재시도
+ * - 조회 응답은 저장된 hits 에 미반영분(getPending)을 더해 표시
+ */
+@Component
+@Slf4j
+public class BbsArticleHitCounter {
+
+    private static final String UPDATE_HITS_SQL = "UPDATE bbs_article SET hits = hits + ? WHERE ntt_id = ?";
+    private static final int STRIPES = 64;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    @Value("${app.board.hits.batch-size:500}")
+    private int batchSize;
+
+    public BbsArticleHitCounter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 현재 테넌트의 게시글 조회수 1 증가 (메모리 누적)
+     */
+    public void increment(Long nttId) {
+        HitKey key = new HitKey(TenantContext.getCurrentTenantOrDefault(), nttId);
+        Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            stripe.add(key, 1);
+        }
+    }
+
+    /**
+     * 현재 테넌트의 게시글 중 아직 DB 에 반영되지 않은 조회수
+     */
+    public int getPending(Long nttId) {
+        if (nttId == null) {
+            return 0;
+        }
+        HitKey key = new HitKey(TenantContext.getCurrentTenantOrDefault(), nttId);
+        Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            long[] delta = stripe.pending.get(key);
+            return delta != null ? (int) delta[0] : 0;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.hits.flush-interval:5000}")
+    public void flush() {
+        Map<String, List<Object[]>> byTenant = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<HitKey, long[]> drained;
+            synchronized (stripe) {
+                if (stripe.pending.isEmpty()) {
+                    continue;
+                }
+                drained = stripe.pending;
+                stripe.pending = new HashMap<>();
+            }
+            drained.forEach((key, delta) -> byTenant.computeIfAbsent(key.tenantId, id -> new ArrayList<>())
+                    .add(new Object[] { delta[0], key.nttId }));
+        }
+        byTenant.forEach(this::flushTenant);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushTenant(String tenantId, List<Object[]> updates) {
+        String previousTenant = TenantContext.getCurrentTenant();
+        TenantContext.setCurrentTenant(tenantId);
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_HITS_SQL, updates, batchSize, (ps, update) -> {
+                ps.setLong(1, (Long) update[0]);
+                ps.setLong(2, (Long) update[1]);
+            });
+            log.debug("Flushed hit counts for {} articles of tenant {}", updates.size(), tenantId);
+        } catch (Exception e) {
+            log.warn("Failed to flush hit counts for tenant {}, retrying next cycle: {}", tenantId, e.getMessage());
+            for (Object[] update : updates) {
+                HitKey key = new HitKey(tenantId, (Long) update[1]);
+                Stripe stripe = stripe(key);
+                synchronized (stripe) {
+                    stripe.add(key, (Long) update[0]);
+                }
+            }
+        } finally {
+            if (previousTenant != null) {
+                TenantContext.setCurrentTenant(previousTenant);
+            } else {
+                TenantContext.clear();
+            }
+        }
+    }
+
+    private Stripe stripe(HitKey key) {
+        return stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private static final class Stripe {
+        private Map<HitKey, long[]> pending = new HashMap<>();
+
+        private void add(HitKey key, long delta) {
+            long[] current = pending.get(key);
+            if (current == null) {
+                pending.put(key, new long[] { delta });
+            } else {
+                current[0] += delta;
+            }
+        }
+    }
+
+    private static final class HitKey {
+        private final String tenantId;
+        private final Long nttId;
+        private final int hash;
+
+        private HitKey(String tenantId, Long nttId) {
+            this.tenantId = tenantId;
+            this.nttId = nttId;
+            this.hash = 31 * tenantId.hashCode() + nttId.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof HitKey)) {
+                return false;
+            }
+            HitKey other = (HitKey) o;
+            return nttId.equals(other.nttId) && Objects.equals(tenantId, other.tenantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package cms.board.service;
+
+import cms.board.dto.BbsArticleSummaryDto;
+import cms.config.DynamicDataSourceConfiguration.TenantContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공개 게시판 목록/상세 캐시 버전 관리
+ * - (테넌트, bbsId, menuId) 목록 버전과 (테넌트, nttId) 게시글 버전을 메모리에 유지, 게시글 변경 커밋 후 증가
+ * - 메뉴를 모르는 변경은 게시판 단위 버전을 올려 그 게시판의 모든 메뉴 목록 버전에 반영
+ * - 약한 ETag = 인스턴스 epoch + 버전 + ttl 시간 구간 (재시작/다른 인스턴스의 ETag 는 일치하지 않아 항상 새로 응답)
+ *   다른 인스턴스의 변경은 이 인스턴스 버전에 반영되지 않으므로 ttl 구간이 바뀌면 ETag 도 바뀌어 304 가 ttl 이상 이어지지 않음
+ * - 공개 목록 첫 페이지를 버전과 함께 보관, 버전이 바뀌거나 ttl 이 지나면 무효 (다중 인스턴스 간 지연 상한)
+ */
+@Component
+public class BbsArticleListCache {
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<String, CachedPage> firstPages;
+
+    @Value("${app.board.list-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.board.list-cache.ttl:60000}")
+    private long ttlMillis;
+
+    public BbsArticleListCache(@Value("${app.board.list-cache.max-entries:1000}") int maxEntries) {
+        this.firstPages = Collections.synchronizedMap(new LinkedHashMap<String, CachedPage>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPage> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public long getBoardVersion(Long bbsId, Long menuId) {
+        String tenantId = TenantContext.getCurrentTenantOrDefault();
+        return version(bbsKey(tenantId, bbsId)) + version(boardKey(tenantId, bbsId, menuId));
+    }
+
+    public String getBoardEtag(Long bbsId, Long menuId) {
+        return etag("b", getBoardVersion(bbsId, menuId));
+    }
+
+    public String getArticleEtag(Long nttId) {
+        return etag("a", version(articleKey(nttId)));
+    }
+
+    /**
+     * 게시글 변경 반영: 현재 트랜잭션 커밋 후 목록/게시글 버전 증가 (트랜잭션 밖이면 즉시)
+     * - menuId 가 null 이면 게시판 단위 버전 증가 (모든 메뉴 목록에 반영)
+     */
+    public void invalidate(Long bbsId, Long menuId, Collection<Long> nttIds) {
+        String tenantId = TenantContext.getCurrentTenantOrDefault();
+        Runnable bump = () -> {
+            bump(menuId != null ? boardKey(tenantId, bbsId, menuId) : bbsKey(tenantId, bbsId));
+            for (Long nttId : nttIds) {
+                bump(articleKey(tenantId, nttId));
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump.run();
+                }
+            });
+        } else {
+            bump.run();
+        }
+    }
+
+    /**
+     * 캐시된 공개 목록 첫 페이지 (버전이 다르거나 만료되면 null)
+     */
+    public Page<BbsArticleSummaryDto> getFirstPage(Long bbsId, Long menuId, Pageable pageable) {
+        if (!enabled || pageable.getPageNumber() != 0) {
+            return null;
+        }
+        String key = pageKey(bbsId, menuId, pageable);
+        CachedPage cached = firstPages.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.version != getBoardVersion(bbsId, menuId)
+                || System.currentTimeMillis() - cached.cachedAt > ttlMillis) {
+            firstPages.remove(key);
+            return null;
+        }
+        return cached.page;
+    }
+
+    /**
+     * 조회 전에 읽은 버전으로 첫 페이지 저장 (조회 중 변경되면 다음 요청에서 버전 불일치로 폐기)
+     */
+    public void putFirstPage(Long bbsId, Long menuId, Pageable pageable, long version,
+            Page<BbsArticleSummaryDto> page) {
+        if (!enabled || pageable.getPageNumber() != 0) {
+            return;
+        }
+        firstPages.put(pageKey(bbsId, menuId, pageable), new CachedPage(version, page));
+    }
+
+    private long version(String key) {
+        AtomicLong version = versions.get(key);
+        return version != null ? version.get() : 0L;
+    }
+
+    private void bump(String key) {
+        versions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    private String etag(String kind, long version) {
+        long bucket = ttlMillis > 0 ? System.currentTimeMillis() / ttlMillis : 0;
+        return "W/\"" + kind + epoch + "-" + version + "-" + Long.toString(bucket, 36) + "\"";
+    }
+
+    private static String bbsKey(String tenantId, Long bbsId) {
+        return tenantId + ":bbs:" + bbsId;
+    }
+
+    private static String boardKey(String tenantId, Long bbsId, Long menuId) {
+        return tenantId + ":board:" + bbsId + ":" + menuId;
+    }
+
+    private static String articleKey(Long nttId) {
+        return articleKey(TenantContext.getCurrentTenantOrDefault(), nttId);
+    }
+
+    private static String articleKey(String tenantId, Long nttId) {
+        return tenantId + ":article:" + nttId;
+    }
+
+    private static String pageKey(Long bbsId, Long menuId, Pageable pageable) {
+        return boardKey(TenantContext.getCurrentTenantOrDefault(), bbsId, menuId) + ":" + pageable.getPageSize() + ":"
+                + Objects.toString(pageable.getSort());
+    }
+
+    private static final class CachedPage {
+        private final long version;
+        private final long cachedAt = System.currentTimeMillis();
+        private final Page<BbsArticleSummaryDto> page;
+
+        private CachedPage(long version, Page<BbsArticleSummaryDto> page) {
+            this.version = version;
+            this.page = page;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package cms.board.service;
+
+import cms.board.domain.BbsArticleDomain;
+import cms.board.repository.BbsArticleRepository;
+import cms.common.editor.EditorContentProcessor;
+import cms.config.DynamicDataSourceConfiguration.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 검색 역색인 관리 (bbs_article_search_token)
+ * - 제목, 작성자, 본문 평문(에디터 JSON 의 text 노드), 작성일(yyyy-MM-dd)을 바이그램으로 분해해 저장
+ * - 한글은 형태소 분석 없이 2글자 단위로 색인하므로 부분 일치 검색 가능
+ * - 생성/수정 시 기존 토큰과 비교해 변경분만 반영 (호출 트랜잭션에 참여), 삭제는 FK ON DELETE CASCADE
+ * - 동시 색인으로 같은 토큰이 이미 들어가 있으면 INSERT IGNORE 로 건너뜀
+ * - 검색어가 1글자 단어를 포함하면 색인으로 찾을 수 없으므로 queryTokens 가 빈 집합 반환 (LIKE 검색으로 대체)
+ */
+@Component
+@Slf4j
+public class BbsArticleSearchIndexer {
+
+    private static final String SELECT_TOKENS_SQL = "SELECT token FROM bbs_article_search_token WHERE ntt_id = ?";
+    private static final String INSERT_TOKEN_SQL = "INSERT IGNORE INTO bbs_article_search_token (token, ntt_id) VALUES (?, ?)";
+    private static final String DELETE_TOKEN_SQL = "DELETE FROM bbs_article_search_token WHERE token = ? AND ntt_id = ?";
+    private static final String DELETE_ARTICLE_SQL = "DELETE FROM bbs_article_search_token WHERE ntt_id = ?";
+    private static final int REBUILD_BATCH_SIZE = 200;
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BbsArticleRepository bbsArticleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EditorContentProcessor contentProcessor;
+    private final Set<String> rebuildingTenants = ConcurrentHashMap.newKeySet();
+
+    public BbsArticleSearchIndexer(DataSource dataSource, BbsArticleRepository bbsArticleRepository,
+            PlatformTransactionManager transactionManager, EditorContentProcessor contentProcessor) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.bbsArticleRepository = bbsArticleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.contentProcessor = contentProcessor;
+    }
+
+    /**
+     * 게시글 색인 갱신 (변경된 토큰만 추가/삭제)
+     */
+    public void index(BbsArticleDomain article) {
+        index(article, contentProcessor.analyze(article.getContent(), EditorContentProcessor.Profile.ARTICLE));
+    }
+
+    /**
+     * 저장 시 이미 처리한 본문 결과로 색인 갱신 (본문 재파싱 없음)
+     */
+    public void index(BbsArticleDomain article, EditorContentProcessor.Result content) {
+        Long nttId = article.getNttId();
+        Set<String> tokens = tokenize(documentText(article, content));
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(SELECT_TOKENS_SQL, String.class, nttId));
+
+        List<Object[]> removed = new ArrayList<>();
+        for (String token : existing) {
+            if (!tokens.contains(token)) {
+                removed.add(new Object[] { token, nttId });
+            }
+        }
+        List<Object[]> added = new ArrayList<>();
+        for (String token : tokens) {
+            if (!existing.contains(token)) {
+                added.add(new Object[] { token, nttId });
+            }
+        }
+        if (!removed.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_TOKEN_SQL, removed);
+        }
+        if (!added.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, added);
+        }
+    }
+
+    /**
+     * 게시글 색인 삭제 (게시글 삭제 전에 호출하지 않아도 FK CASCADE 로 정리됨)
+     */
+    public void remove(Long nttId) {
+        jdbcTemplate.update(DELETE_ARTICLE_SQL, nttId);
+    }
+
+    public boolean isRebuilding() {
+        return rebuildingTenants.contains(TenantContext.getCurrentTenantOrDefault());
+    }
+
+    /**
+     * 현재 테넌트의 전체 게시글 재색인 (nttId 순 배치, 배치마다 별도 트랜잭션)
+     *
+     * @return 재색인한 게시글 수 (이미 진행 중이면 0)
+     */
+    @Async
+    public CompletableFuture<Integer> rebuild() {
+        String tenantId = TenantContext.getCurrentTenantOrDefault();
+        if (!rebuildingTenants.add(tenantId)) {
+            log.info("Search index rebuild already running for tenant {}", tenantId);
+            return CompletableFuture.completedFuture(0);
+        }
+        int indexed = 0;
+        try {
+            long lastNttId = 0;
+            while (true) {
+                long after = lastNttId;
+                List<Long> batch = transactionTemplate.execute(status -> {
+                    List<Long> ids = new ArrayList<>();
+                    for (BbsArticleDomain article : bbsArticleRepository.findTop200ByNttIdGreaterThanOrderByNttIdAsc(after)) {
+                        index(article);
+                        ids.add(article.getNttId());
+                    }
+                    return ids;
+                });
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+                indexed += batch.size();
+                lastNttId = batch.get(batch.size() - 1);
+                if (batch.size() < REBUILD_BATCH_SIZE) {
+                    break;
+                }
+            }
+            log.info("Rebuilt search index for {} articles of tenant {}", indexed, tenantId);
+            return CompletableFuture.completedFuture(indexed);
+        } catch (RuntimeException e) {
+            log.error("Search index rebuild failed for tenant {} after {} articles: {}", tenantId, indexed,
+                    e.getMessage(), e);
+            CompletableFuture<Integer> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        } finally {
+            rebuildingTenants.remove(tenantId);
+        }
+    }
+
+    /**
+     * 검색어 토큰 (1글자 단어가 있으면 색인 검색 불가 - 빈 집합)
+     */
+    public Set<String> queryTokens(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (keyword == null) {
+            return tokens;
+        }
+        for (String word : words(keyword)) {
+            if (word.codePointCount(0, word.length()) < 2) {
+                return new LinkedHashSet<>();
+            }
+            addBigrams(word, tokens);
+        }
+        return tokens;
+    }
+
+    /**
+     * 색인 토큰: 2글자 이상 단어는 바이그램, 1글자 단어는 그대로
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String word : words(text)) {
+            if (word.codePointCount(0, word.length()) < 2) {
+                tokens.add(word);
+            } else {
+                addBigrams(word, tokens);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        String normalized = text.toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length();) {
+            int codePoint = normalized.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                word.appendCodePoint(codePoint);
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    private static void addBigrams(String word, Set<String> tokens) {
+        int first = 0;
+        int second = word.offsetByCodePoints(first, 1);
+        while (second < word.length()) {
+            int end = word.offsetByCodePoints(second, 1);
+            tokens.add(word.substring(first, end));
+            first = second;
+            second = end;
+        }
+    }
+
+    private static String documentText(BbsArticleDomain article, EditorContentProcessor.Result content) {
+        StringBuilder text = new StringBuilder();
+        append(text, article.getTitle());
+        append(text, article.getWriter());
+        append(text, plainText(content));
+        if (article.getCreatedAt() != null) {
+            append(text, article.getCreatedAt().format(DATE_FORMAT));
+        }
+        return text.toString();
+    }
+
+    private static void append(StringBuilder text, String value) {
+        if (value != null && !value.isEmpty()) {
+            text.append(value).append('\n');
+        }
+    }
+
+    /**
+     * 에디터 JSON 이면 text 노드 평문, 아니면 HTML 태그 제거
+     */
+    private static String plainText(EditorContentProcessor.Result content) {
+        if (content.isParsed()) {
+            return content.getPlainText();
+        }
+        String raw = content.getContent();
+        return raw != null ? HTML_TAG.matcher(raw).replaceAll(" ") : null;
+    }
+}
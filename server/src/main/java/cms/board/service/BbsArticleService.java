@@ -1,6 +1,8 @@
 package cms.board.service;
 
 import cms.board.dto.BbsArticleDto;
+import cms.board.dto.BbsArticleSliceDto;
+import cms.board.dto.BbsArticleSummaryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
@@ -30,11 +32,32 @@ public interface BbsArticleService {
 
         BbsArticleDto getArticle(Long nttId);
 
-        Page<BbsArticleDto> getArticles(Long bbsId, Long menuId, Pageable pageable, boolean isAdmin);
+        Page<BbsArticleSummaryDto> getArticles(Long bbsId, Long menuId, Pageable pageable, boolean isAdmin);
 
-        Page<BbsArticleDto> searchArticles(Long bbsId, Long menuId, String keyword, Pageable pageable, boolean isAdmin);
+        /**
+         * 커서 기반 게시글 목록 (noticeState, createdAt, nttId 기준 seek, OFFSET/COUNT 없음)
+         *
+         * @param cursor       이전 응답의 nextCursor (첫 페이지는 null)
+         * @param includeTotal true 면 전체 게시글 수도 조회
+         */
+        BbsArticleSliceDto getArticlesByCursor(Long bbsId, Long menuId, String cursor, int size,
+                        boolean includeTotal, boolean isAdmin);
 
-        Page<BbsArticleDto> getReplies(Long nttId, Pageable pageable);
+        Page<BbsArticleSummaryDto> searchArticles(Long bbsId, Long menuId, String keyword, Pageable pageable, boolean isAdmin);
+
+        Page<BbsArticleSummaryDto> getReplies(Long nttId, Pageable pageable);
+
+        /**
+         * 게시글과 모든 하위 답변을 스레드 순서(전위 순회)로 조회합니다.
+         */
+        List<BbsArticleSummaryDto> getThread(Long nttId);
 
         void increaseHits(Long nttId);
+
+        /**
+         * 현재 테넌트의 게시글 검색 색인을 비동기로 재구성합니다.
+         *
+         * @return 재구성을 시작했으면 true, 이미 진행 중이면 false
+         */
+        boolean rebuildSearchIndex();
 }
\ No newline at end of file
@@ -0,0 +1,224 @@
+package cms.board.service;
+
+import cms.board.domain.BbsArticleDomain;
+import cms.board.repository.BbsArticleRepository;
+import cms.config.DynamicDataSourceConfiguration.TenantContext;
+import cms.config.TenantRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시/공지 기간 전환 스케줄러
+ * - 게시글의 다음 기간 경계(next_transition_at)를 지연 큐에 넣고, 그 시각에 현재 게시/공지 상태를 전환
+ * - 시작 시와 reload-interval 마다 테넌트별로 horizon 안의 전환을 DB 에서 다시 적재 (놓친 전환은 즉시 실행)
+ * - 전환 시 게시판 카운터 증감 + 목록/게시글 캐시 버전 증가 (다른 인스턴스가 먼저 전환했어도 자기 캐시는 무효화)
+ */
+@Component
+@Slf4j
+public class BbsArticleVisibilityScheduler {
+
+    private final BbsArticleRepository bbsArticleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BbsArticleCounter articleCounter;
+    private final BbsArticleListCache listCache;
+    private final TenantRegistry tenantRegistry;
+    private final DelayQueue<Transition> queue = new DelayQueue<>();
+    private final Set<Transition> queued = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.board.visibility.reload-interval:300000}")
+    private long reloadIntervalMillis;
+
+    private volatile Thread worker;
+
+    public BbsArticleVisibilityScheduler(BbsArticleRepository bbsArticleRepository,
+            PlatformTransactionManager transactionManager, BbsArticleCounter articleCounter,
+            BbsArticleListCache listCache, TenantRegistry tenantRegistry) {
+        this.bbsArticleRepository = bbsArticleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.articleCounter = articleCounter;
+        this.listCache = listCache;
+        this.tenantRegistry = tenantRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::runTransitions, "bbs-visibility-scheduler");
+        thread.setDaemon(true);
+        thread.start();
+        worker = thread;
+        reload();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * 게시글 저장 후 다음 전환 예약 (현재 트랜잭션 커밋 후, horizon 밖이면 다음 적재 때 예약)
+     */
+    public void schedule(BbsArticleDomain article) {
+        LocalDateTime at = article.getNextTransitionAt();
+        if (at == null || at.isAfter(horizon())) {
+            return;
+        }
+        Transition transition = new Transition(TenantContext.getCurrentTenantOrDefault(), article.getNttId(), at);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(transition);
+                }
+            });
+        } else {
+            enqueue(transition);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.board.visibility.reload-interval:300000}",
+            fixedDelayString = "${app.board.visibility.reload-interval:300000}")
+    public void reload() {
+        Set<String> tenants = new LinkedHashSet<>();
+        tenants.add(TenantContext.DEFAULT_TENANT);
+        tenants.addAll(tenantRegistry.current().getTenantIds());
+        LocalDateTime horizon = horizon();
+        for (String tenantId : tenants) {
+            TenantContext.setCurrentTenant(tenantId);
+            try {
+                for (Object[] row : bbsArticleRepository.findTransitionsUntil(horizon)) {
+                    enqueue(new Transition(tenantId, (Long) row[0], (LocalDateTime) row[1]));
+                }
+            } catch (Exception e) {
+                log.warn("Failed to load visibility transitions for tenant {}: {}", tenantId, e.getMessage());
+            } finally {
+                TenantContext.clear();
+            }
+        }
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    private LocalDateTime horizon() {
+        // 적재 주기의 두 배까지 미리 적재해 주기 사이의 전환을 놓치지 않음
+        return LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(reloadIntervalMillis * 2));
+    }
+
+    private void enqueue(Transition transition) {
+        if (queued.add(transition)) {
+            queue.put(transition);
+        }
+    }
+
+    private void runTransitions() {
+        while (worker == Thread.currentThread()) {
+            Transition transition;
+            try {
+                transition = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queued.remove(transition);
+            TenantContext.setCurrentTenant(transition.tenantId);
+            try {
+                apply(transition);
+            } catch (Exception e) {
+                log.warn("Visibility transition failed for article {} of tenant {}: {}", transition.nttId,
+                        transition.tenantId, e.getMessage());
+            } finally {
+                TenantContext.clear();
+            }
+        }
+    }
+
+    private void apply(Transition transition) {
+        transactionTemplate.executeWithoutResult(status -> {
+            BbsArticleDomain article = bbsArticleRepository.findByIdForUpdate(transition.nttId);
+            if (article == null) {
+                return;
+            }
+            Long bbsId = article.getBbsMaster().getBbsId();
+            Long menuId = article.getMenu() != null ? article.getMenu().getId() : null;
+            LocalDateTime due = article.getNextTransitionAt();
+            if (due != null && !due.isAfter(LocalDateTime.now())) {
+                String oldPublishState = article.getPublishState();
+                String oldNoticeState = article.getNoticeState();
+                if (article.applyVisibilityWindow(LocalDateTime.now())) {
+                    articleCounter.onStateChanged(bbsId, menuId, oldPublishState, oldNoticeState,
+                            article.getPublishState(), article.getNoticeState());
+                    log.info("Article {} visibility changed: publish {} -> {}, notice {} -> {}", transition.nttId,
+                            oldPublishState, article.getPublishState(), oldNoticeState, article.getNoticeState());
+                }
+                schedule(article);
+            }
+            // 이미 다른 인스턴스가 전환했더라도 이 인스턴스의 캐시는 무효화
+            listCache.invalidate(bbsId, menuId, Collections.singletonList(transition.nttId));
+        });
+    }
+
+    private static final class Transition implements Delayed {
+        private final String tenantId;
+        private final Long nttId;
+        private final LocalDateTime at;
+        private final long atMillis;
+
+        private Transition(String tenantId, Long nttId, LocalDateTime at) {
+            this.tenantId = tenantId;
+            this.nttId = nttId;
+            this.at = at;
+            this.atMillis = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(atMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(atMillis, ((Transition) other).atMillis);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Transition)) {
+                return false;
+            }
+            Transition other = (Transition) o;
+            return tenantId.equals(other.tenantId) && nttId.equals(other.nttId) && at.equals(other.at);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * tenantId.hashCode() + nttId.hashCode()) + at.hashCode();
+        }
+    }
+}
@@ -3,9 +3,17 @@ package cms.board.service.impl;
 import cms.board.domain.BbsArticleDomain;
 import cms.board.domain.BbsMasterDomain;
 import cms.board.dto.BbsArticleDto;
+import cms.board.dto.BbsArticleSliceDto;
+import cms.board.dto.BbsArticleSummaryDto;
 import cms.board.repository.BbsArticleRepository;
 import cms.board.repository.BbsMasterRepository;
+import cms.board.service.BbsArticleCounter;
+import cms.board.service.BbsArticleHitCounter;
+import cms.board.service.BbsArticleListCache;
+import cms.board.service.BbsArticleSearchIndexer;
 import cms.board.service.BbsArticleService;
+import cms.board.service.BbsArticleVisibilityScheduler;
+import cms.common.editor.EditorContentProcessor;
 import cms.common.exception.BbsArticleNotFoundException;
 import cms.common.exception.BbsMasterNotFoundException;
 import cms.common.exception.InvalidParentArticleException;
@@ -19,23 +27,24 @@ import cms.menu.domain.Menu;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
-import java.util.HashSet;
 import org.springframework.beans.factory.annotation.Value;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -46,13 +55,19 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class BbsArticleServiceImpl implements BbsArticleService {
 
     private static final String ARTICLE_ATTACHMENT_MENU_TYPE = "ARTICLE_ATTACHMENT";
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
     public static final String EDITOR_EMBEDDED_MEDIA = "EDITOR_EMBEDDED_MEDIA";
 
     private final BbsArticleRepository bbsArticleRepository;
     private final BbsMasterRepository bbsMasterRepository;
     private final MenuRepository menuRepository;
     private final FileService fileService;
-    private final ObjectMapper objectMapper;
+    private final EditorContentProcessor contentProcessor;
+    private final BbsArticleHitCounter hitCounter;
+    private final BbsArticleSearchIndexer searchIndexer;
+    private final BbsArticleListCache listCache;
+    private final BbsArticleCounter articleCounter;
+    private final BbsArticleVisibilityScheduler visibilityScheduler;
 
     @Value("${app.api.base-url}")
     private String appApiBaseUrl;
@@ -106,8 +121,6 @@ public class BbsArticleServiceImpl implements BbsArticleService {
             }
         }
 
-        boolean hasImage = checkContentForImages(articleDto.getContent());
-
         BbsArticleDomain article = BbsArticleDomain.builder()
                 .bbsMaster(bbsMaster)
                 .menu(menu)
@@ -116,23 +129,24 @@ public class BbsArticleServiceImpl implements BbsArticleService {
                 .writer(writer)
                 .title(articleDto.getTitle())
                 .content(articleDto.getContent())
-                .hasImageInContent(hasImage)
                 .noticeState(articleDto.getNoticeState() != null ? articleDto.getNoticeState() : "N")
+                .noticeStartDt(articleDto.getNoticeStartDt())
+                .noticeEndDt(articleDto.getNoticeEndDt())
                 .publishState(articleDto.getPublishState() != null ? articleDto.getPublishState() : "Y")
                 .publishStartDt(articleDto.getPublishStartDt())
                 .publishEndDt(articleDto.getPublishEndDt())
                 .externalLink(articleDto.getExternalLink())
                 .hits(0)
                 .build();
+        article.applyVisibilityWindow(LocalDateTime.now());
 
         BbsArticleDomain savedArticle = bbsArticleRepository.save(article);
 
-        String finalContentJson = articleDto.getContent();
+        Map<String, Long> localIdToFileIdMap = new HashMap<>();
         if (mediaFiles != null && !mediaFiles.isEmpty() && mediaLocalIdsArray.length > 0) {
             List<CmsFile> uploadedMediaFiles = fileService.uploadFiles(EDITOR_EMBEDDED_MEDIA, savedArticle.getNttId(),
                     mediaFiles);
 
-            Map<String, Long> localIdToFileIdMap = new HashMap<>();
             for (int i = 0; i < mediaLocalIdsArray.length; i++) {
                 if (i < uploadedMediaFiles.size()) {
                     localIdToFileIdMap.put(mediaLocalIdsArray[i], uploadedMediaFiles.get(i).getFileId());
@@ -142,13 +156,15 @@ public class BbsArticleServiceImpl implements BbsArticleService {
             }
             if (!localIdToFileIdMap.isEmpty()) {
                 log.debug("[createArticle] localIdToFileIdMap created: {}", localIdToFileIdMap);
-                finalContentJson = replaceLocalIdsInJson(articleDto.getContent(), localIdToFileIdMap);
             } else {
                 log.debug("[createArticle] localIdToFileIdMap is empty or mediaLocalIds/mediaFiles were insufficient.");
             }
         }
 
-        savedArticle.setContent(finalContentJson);
+        EditorContentProcessor.Result content = contentProcessor.process(articleDto.getContent(), localIdToFileIdMap,
+                EditorContentProcessor.Profile.ARTICLE);
+        savedArticle.updateContent(content.getContent(), content.hasImage());
+        savedArticle.assignThreadPath();
 
         BbsArticleDomain finalSavedArticle = bbsArticleRepository.save(savedArticle);
 
@@ -156,6 +172,11 @@ public class BbsArticleServiceImpl implements BbsArticleService {
             fileService.uploadFiles(ARTICLE_ATTACHMENT_MENU_TYPE, finalSavedArticle.getNttId(), attachments);
         }
 
+        articleCounter.onCreated(bbsMaster.getBbsId(), menu.getId(), finalSavedArticle.getPublishState(),
+                finalSavedArticle.getNoticeState());
+        visibilityScheduler.schedule(finalSavedArticle);
+        searchIndexer.index(finalSavedArticle, content);
+        invalidateCache(finalSavedArticle, Collections.singletonList(finalSavedArticle.getNttId()));
         return convertToDto(finalSavedArticle);
     }
 
@@ -205,49 +226,6 @@ public class BbsArticleServiceImpl implements BbsArticleService {
                 .anyMatch(grantedAuthority -> "ROLE_ADMIN".equals(grantedAuthority.getAuthority()));
     }
 
-    private boolean checkContentForImages(String jsonContent) {
-        if (jsonContent == null || jsonContent.isEmpty()) {
-            return false;
-        }
-        try {
-            JsonNode rootNode = objectMapper.readTree(jsonContent);
-            if (rootNode.has("root") && rootNode.get("root").has("children")) {
-                return hasImageNodeRecursive(rootNode.get("root").get("children"));
-            } else if (rootNode.isArray()) {
-                return hasImageNodeRecursive(rootNode);
-            } else if (rootNode.has("children")) {
-                return hasImageNodeRecursive(rootNode.get("children"));
-            }
-            return false;
-        } catch (IOException e) {
-            log.error("Error parsing JSON for checkContentForImages: {}", e.getMessage());
-            return false;
-        }
-    }
-
-    private boolean hasImageNodeRecursive(JsonNode node) {
-        if (node.isArray()) {
-            for (JsonNode elementNode : node) {
-                if (hasImageNodeRecursive(elementNode)) {
-                    return true;
-                }
-            }
-        } else if (node.isObject()) {
-            ObjectNode objectNode = (ObjectNode) node;
-            if (objectNode.has("type") && "image".equals(objectNode.get("type").asText())) {
-                return true;
-            }
-            for (JsonNode child : objectNode) {
-                if (child.isContainerNode()) {
-                    if (hasImageNodeRecursive(child)) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
-    }
-
     @Override
     @Transactional
     public BbsArticleDto updateArticle(Long nttId, BbsArticleDto articleDto, String editorContentJson,
@@ -279,7 +257,6 @@ public class BbsArticleServiceImpl implements BbsArticleService {
             validateFilePolicy(article.getBbsMaster(), attachments);
         }
 
-        String finalContentJson = articleDto.getContent();
         Map<String, Long> newUploadedLocalIdToFileIdMap = new HashMap<>();
 
         if (mediaFiles != null && !mediaFiles.isEmpty() && mediaLocalIdsArray.length > 0) {
@@ -295,14 +272,16 @@ public class BbsArticleServiceImpl implements BbsArticleService {
             }
             if (!newUploadedLocalIdToFileIdMap.isEmpty()) {
                 log.debug("[updateArticle] newUploadedLocalIdToFileIdMap created: {}", newUploadedLocalIdToFileIdMap);
-                finalContentJson = replaceLocalIdsInJson(articleDto.getContent(), newUploadedLocalIdToFileIdMap);
             } else {
                 log.debug(
                         "[updateArticle] newUploadedLocalIdToFileIdMap is empty or mediaLocalIds/mediaFiles were insufficient.");
             }
         }
 
-        Set<Long> referencedFileIdsInContent = extractFileIdsFromJson(finalContentJson);
+        // 치환, 참조 파일 ID, 이미지 여부, 검색 평문을 한 번의 파싱으로 처리
+        EditorContentProcessor.Result content = contentProcessor.process(articleDto.getContent(),
+                newUploadedLocalIdToFileIdMap, EditorContentProcessor.Profile.ARTICLE);
+        Set<Long> referencedFileIdsInContent = content.getFileIds();
         List<CmsFile> existingDbMediaFiles = fileService.getList(EDITOR_EMBEDDED_MEDIA, nttId, null);
 
         for (CmsFile dbFile : existingDbMediaFiles) {
@@ -333,20 +312,28 @@ public class BbsArticleServiceImpl implements BbsArticleService {
             }
         }
 
+        String oldPublishState = article.getPublishState();
+        String oldNoticeState = article.getNoticeState();
         article.update(
                 articleDto.getWriter(),
                 articleDto.getTitle(),
-                finalContentJson,
-                articleDto.getNoticeState() != null ? articleDto.getNoticeState() : article.getNoticeState(),
+                content.getContent(),
+                articleDto.getNoticeState() != null ? articleDto.getNoticeState() : article.getRequestedNoticeState(),
                 articleDto.getNoticeStartDt(),
                 articleDto.getNoticeEndDt(),
-                articleDto.getPublishState() != null ? articleDto.getPublishState() : article.getPublishState(),
+                articleDto.getPublishState() != null ? articleDto.getPublishState()
+                        : article.getRequestedPublishState(),
                 articleDto.getPublishStartDt(),
                 articleDto.getPublishEndDt(),
                 articleDto.getExternalLink(),
-                checkContentForImages(finalContentJson));
-
-        return convertToDto(bbsArticleRepository.save(article));
+                content.hasImage());
+
+        BbsArticleDomain updatedArticle = bbsArticleRepository.save(article);
+        countStateChange(updatedArticle, oldPublishState, oldNoticeState);
+        visibilityScheduler.schedule(updatedArticle);
+        searchIndexer.index(updatedArticle, content);
+        invalidateCache(updatedArticle, Collections.singletonList(nttId));
+        return convertToDto(updatedArticle);
     }
 
     @Override
@@ -354,24 +341,47 @@ public class BbsArticleServiceImpl implements BbsArticleService {
     public void deleteArticle(Long nttId) {
         BbsArticleDomain article = bbsArticleRepository.findById(nttId)
                 .orElseThrow(() -> new BbsArticleNotFoundException(nttId));
+        deleteThread(article);
+    }
 
-        List<CmsFile> attachedFiles = fileService.getList(ARTICLE_ATTACHMENT_MENU_TYPE, nttId, null);
-        for (CmsFile file : attachedFiles) {
-            try {
-                fileService.deleteFile(file.getFileId());
-            } catch (Exception e) {
-                log.error("Failed to delete file with ID {} for article {}: {}", file.getFileId(), nttId,
-                        e.getMessage());
-            }
+    /**
+     * 게시글과 모든 답변을 스레드 경로로 일괄 삭제
+     * - 하위 nttId 조회 1회, 첨부/본문 미디어 파일 조회·삭제 1회, 게시글 DELETE 1회
+     */
+    private void deleteThread(BbsArticleDomain article) {
+        Long nttId = article.getNttId();
+        String threadPath = article.getThreadPath();
+        List<Long> subtreeIds = threadPath != null
+                ? bbsArticleRepository.findSubtreeIds(threadPath)
+                : Collections.singletonList(nttId);
+
+        int deletedFiles = fileService.deleteFilesByMenuIds(
+                Arrays.asList(ARTICLE_ATTACHMENT_MENU_TYPE, EDITOR_EMBEDDED_MEDIA), subtreeIds);
+
+        if (threadPath != null) {
+            articleCounter.onSubtreeDeleting(threadPath);
+            bbsArticleRepository.deleteSubtree(threadPath);
+        } else {
+            articleCounter.onDeleted(article.getBbsMaster().getBbsId(), menuIdOf(article), article.getPublishState(),
+                    article.getNoticeState());
+            searchIndexer.remove(nttId);
+            bbsArticleRepository.delete(article);
         }
+        invalidateCache(article, subtreeIds);
+        log.info("Deleted article {} with {} replies and {} files", nttId, subtreeIds.size() - 1, deletedFiles);
+    }
 
-        List<BbsArticleDomain> replies = bbsArticleRepository
-                .findRepliesByParentNttId(article.getBbsMaster().getBbsId(), nttId, Pageable.unpaged()).getContent();
-        for (BbsArticleDomain reply : replies) {
-            deleteArticle(reply.getNttId());
-        }
+    private void invalidateCache(BbsArticleDomain article, List<Long> nttIds) {
+        listCache.invalidate(article.getBbsMaster().getBbsId(), menuIdOf(article), nttIds);
+    }
+
+    private void countStateChange(BbsArticleDomain article, String oldPublishState, String oldNoticeState) {
+        articleCounter.onStateChanged(article.getBbsMaster().getBbsId(), menuIdOf(article), oldPublishState,
+                oldNoticeState, article.getPublishState(), article.getNoticeState());
+    }
 
-        bbsArticleRepository.delete(article);
+    private static Long menuIdOf(BbsArticleDomain article) {
+        return article.getMenu() != null ? article.getMenu().getId() : null;
     }
 
     @Override
@@ -385,45 +395,128 @@ public class BbsArticleServiceImpl implements BbsArticleService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<BbsArticleDto> getArticles(Long bbsId, Long menuId, Pageable pageable, boolean isAdmin) {
-        Page<BbsArticleDomain> articlesPage;
+    public Page<BbsArticleSummaryDto> getArticles(Long bbsId, Long menuId, Pageable pageable, boolean isAdmin) {
+        // 전체 건수는 COUNT(*) 대신 게시판 카운터 사용
         if (isAdmin) {
-            articlesPage = bbsArticleRepository.findAllByBbsIdAndMenuId(bbsId, menuId, pageable);
+            List<BbsArticleSummaryDto> articles = bbsArticleRepository.findAllByBbsIdAndMenuId(bbsId, menuId,
+                    pageable);
+            return new PageImpl<>(completeSummaries(articles), pageable,
+                    articleCounter.getCounts(bbsId, menuId).getTotal());
+        }
+        // 공개 목록 첫 페이지는 목록 버전이 바뀔 때까지 캐시
+        Page<BbsArticleSummaryDto> cached = listCache.getFirstPage(bbsId, menuId, pageable);
+        if (cached != null) {
+            return cached;
+        }
+        long version = listCache.getBoardVersion(bbsId, menuId);
+        List<BbsArticleSummaryDto> articles = bbsArticleRepository.findPublishedByBbsIdAndMenuId(bbsId, menuId,
+                pageable);
+        Page<BbsArticleSummaryDto> articlesPage = new PageImpl<>(completeSummaries(articles), pageable,
+                articleCounter.getCounts(bbsId, menuId).getPublished());
+        listCache.putFirstPage(bbsId, menuId, pageable, version, articlesPage);
+        return articlesPage;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BbsArticleSliceDto getArticlesByCursor(Long bbsId, Long menuId, String cursor, int size,
+            boolean includeTotal, boolean isAdmin) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        // 한 건 더 조회해 다음 페이지 존재 여부 판단
+        Pageable slice = PageRequest.of(0, limit + 1);
+
+        List<BbsArticleSummaryDto> articles;
+        if (cursor == null || cursor.isEmpty()) {
+            articles = isAdmin
+                    ? bbsArticleRepository.findAllFirstSlice(bbsId, menuId, slice)
+                    : bbsArticleRepository.findPublishedFirstSlice(bbsId, menuId, slice);
         } else {
-            articlesPage = bbsArticleRepository.findPublishedByBbsIdAndMenuId(bbsId, menuId, pageable);
+            ArticleCursor after = ArticleCursor.decode(cursor);
+            articles = isAdmin
+                    ? bbsArticleRepository.findAllSliceAfter(bbsId, menuId, after.noticeState, after.createdAt,
+                            after.nttId, slice)
+                    : bbsArticleRepository.findPublishedSliceAfter(bbsId, menuId, after.noticeState,
+                            after.createdAt, after.nttId, slice);
         }
-        return articlesPage.map(this::convertToDto);
+
+        boolean hasNext = articles.size() > limit;
+        if (hasNext) {
+            articles = articles.subList(0, limit);
+        }
+        String nextCursor = hasNext ? ArticleCursor.encode(articles.get(articles.size() - 1)) : null;
+
+        Long totalElements = null;
+        if (includeTotal) {
+            BbsArticleCounter.Counts counts = articleCounter.getCounts(bbsId, menuId);
+            totalElements = isAdmin ? counts.getTotal() : counts.getPublished();
+        }
+
+        return BbsArticleSliceDto.builder()
+                .content(completeSummaries(articles))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalElements(totalElements)
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<BbsArticleDto> searchArticles(Long bbsId, Long menuId, String keyword, Pageable pageable,
+    public Page<BbsArticleSummaryDto> searchArticles(Long bbsId, Long menuId, String keyword, Pageable pageable,
             boolean isAdmin) {
-        Page<BbsArticleDomain> articlesPage;
-        if (isAdmin) {
-            articlesPage = bbsArticleRepository.searchAllByKeywordAndMenuId(bbsId, menuId, keyword, pageable);
+        Set<String> tokens = searchIndexer.queryTokens(keyword);
+        Page<BbsArticleSummaryDto> articlesPage;
+        if (tokens.isEmpty()) {
+            // 색인으로 찾을 수 없는 검색어 (1글자 단어 등)
+            if (isAdmin) {
+                articlesPage = bbsArticleRepository.searchAllByKeywordAndMenuId(bbsId, menuId, keyword, pageable);
+            } else {
+                articlesPage = bbsArticleRepository.searchPublishedByKeywordAndMenuId(bbsId, menuId, keyword,
+                        pageable);
+            }
+        } else if (isAdmin) {
+            articlesPage = bbsArticleRepository.searchAllByTokensAndMenuId(bbsId, menuId, tokens, tokens.size(),
+                    pageable);
         } else {
-            articlesPage = bbsArticleRepository.searchPublishedByKeywordAndMenuId(bbsId, menuId, keyword, pageable);
+            articlesPage = bbsArticleRepository.searchPublishedByTokensAndMenuId(bbsId, menuId, tokens,
+                    tokens.size(), pageable);
         }
-        return articlesPage.map(this::convertToDto);
+        return completeSummaries(articlesPage);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<BbsArticleDto> getReplies(Long nttId, Pageable pageable) {
+    public Page<BbsArticleSummaryDto> getReplies(Long nttId, Pageable pageable) {
         BbsArticleDomain parentArticle = bbsArticleRepository.findById(nttId)
                 .orElseThrow(() -> new BbsArticleNotFoundException(nttId));
-        return bbsArticleRepository.findRepliesByParentNttId(parentArticle.getBbsMaster().getBbsId(), nttId, pageable)
-                .map(this::convertToDto);
+        return completeSummaries(bbsArticleRepository.findReplySummariesByParentNttId(
+                parentArticle.getBbsMaster().getBbsId(), nttId, pageable));
     }
 
     @Override
-    @Transactional
-    public void increaseHits(Long nttId) {
+    @Transactional(readOnly = true)
+    public List<BbsArticleSummaryDto> getThread(Long nttId) {
         BbsArticleDomain article = bbsArticleRepository.findById(nttId)
                 .orElseThrow(() -> new BbsArticleNotFoundException(nttId));
-        article.increaseHits();
-        bbsArticleRepository.save(article);
+        if (article.getThreadPath() == null) {
+            return Collections.emptyList();
+        }
+        return completeSummaries(bbsArticleRepository.findThreadSummaries(
+                article.getBbsMaster().getBbsId(), article.getThreadPath()));
+    }
+
+    @Override
+    public boolean rebuildSearchIndex() {
+        if (searchIndexer.isRebuilding()) {
+            return false;
+        }
+        searchIndexer.rebuild();
+        return true;
+    }
+
+    @Override
+    public void increaseHits(Long nttId) {
+        // 행 갱신 없이 누적 후 BbsArticleHitCounter 가 주기적으로 배치 반영
+        hitCounter.increment(nttId);
     }
 
     @Override
@@ -431,21 +524,33 @@ public class BbsArticleServiceImpl implements BbsArticleService {
     public BbsArticleDto createBoard(BbsArticleDto boardDto) {
         BbsMasterDomain bbsMaster = bbsMasterRepository.findById(boardDto.getBbsId())
                 .orElseThrow(() -> new BbsMasterNotFoundException(boardDto.getBbsId()));
+        EditorContentProcessor.Result content = contentProcessor.analyze(boardDto.getContent(),
+                EditorContentProcessor.Profile.ARTICLE);
 
         BbsArticleDomain article = BbsArticleDomain.builder()
                 .bbsMaster(bbsMaster)
                 .writer(boardDto.getWriter())
                 .title(boardDto.getTitle())
                 .content(boardDto.getContent())
+                .hasImageInContent(content.hasImage())
                 .noticeState(boardDto.getNoticeState())
+                .noticeStartDt(boardDto.getNoticeStartDt())
+                .noticeEndDt(boardDto.getNoticeEndDt())
                 .publishState(boardDto.getPublishState())
                 .publishStartDt(boardDto.getPublishStartDt())
                 .publishEndDt(boardDto.getPublishEndDt())
                 .externalLink(boardDto.getExternalLink())
                 .hits(0)
                 .build();
+        article.applyVisibilityWindow(LocalDateTime.now());
 
         BbsArticleDomain savedArticle = bbsArticleRepository.save(article);
+        savedArticle.assignThreadPath();
+        articleCounter.onCreated(bbsMaster.getBbsId(), menuIdOf(savedArticle), savedArticle.getPublishState(),
+                savedArticle.getNoticeState());
+        visibilityScheduler.schedule(savedArticle);
+        searchIndexer.index(savedArticle, content);
+        invalidateCache(savedArticle, Collections.singletonList(savedArticle.getNttId()));
         return convertToDto(savedArticle);
     }
 
@@ -455,8 +560,11 @@ public class BbsArticleServiceImpl implements BbsArticleService {
         BbsArticleDomain article = bbsArticleRepository.findById(nttId)
                 .orElseThrow(() -> new BbsArticleNotFoundException(nttId));
 
-        boolean hasImage = checkContentForImages(boardDto.getContent());
+        EditorContentProcessor.Result content = contentProcessor.analyze(boardDto.getContent(),
+                EditorContentProcessor.Profile.ARTICLE);
 
+        String oldPublishState = article.getPublishState();
+        String oldNoticeState = article.getNoticeState();
         article.update(
                 article.getWriter(),
                 boardDto.getTitle(),
@@ -468,8 +576,12 @@ public class BbsArticleServiceImpl implements BbsArticleService {
                 boardDto.getPublishStartDt(),
                 boardDto.getPublishEndDt(),
                 boardDto.getExternalLink(),
-                hasImage);
+                content.hasImage());
 
+        countStateChange(article, oldPublishState, oldNoticeState);
+        visibilityScheduler.schedule(article);
+        searchIndexer.index(article, content);
+        invalidateCache(article, Collections.singletonList(nttId));
         return convertToDto(article);
     }
 
@@ -478,7 +590,7 @@ public class BbsArticleServiceImpl implements BbsArticleService {
     public void deleteBoard(Long nttId) {
         BbsArticleDomain article = bbsArticleRepository.findById(nttId)
                 .orElseThrow(() -> new BbsArticleNotFoundException(nttId));
-        bbsArticleRepository.delete(article);
+        deleteThread(article);
     }
 
     @Override
@@ -496,35 +608,66 @@ public class BbsArticleServiceImpl implements BbsArticleService {
                 .map(this::convertToDto);
     }
 
+    /**
+     * 목록 요약 보완: 첨부파일 수(menu_id IN (...) 한 번 조회)와 미반영 조회수 반영
+     */
+    private Page<BbsArticleSummaryDto> completeSummaries(Page<BbsArticleSummaryDto> articlesPage) {
+        completeSummaries(articlesPage.getContent());
+        return articlesPage;
+    }
+
+    private List<BbsArticleSummaryDto> completeSummaries(List<BbsArticleSummaryDto> articles) {
+        Set<Long> nttIds = articles.stream()
+                .map(BbsArticleSummaryDto::getNttId)
+                .collect(Collectors.toSet());
+        Map<Long, Long> attachmentCounts;
+        try {
+            attachmentCounts = fileService.countByMenuIds(ARTICLE_ATTACHMENT_MENU_TYPE, nttIds);
+        } catch (Exception e) {
+            log.error("Failed to count attachments for articles {}: {}", nttIds, e.getMessage(), e);
+            attachmentCounts = Collections.emptyMap();
+        }
+        for (BbsArticleSummaryDto article : articles) {
+            article.setAttachmentCount(attachmentCounts.getOrDefault(article.getNttId(), 0L));
+            article.setHits(article.getHits() + hitCounter.getPending(article.getNttId()));
+        }
+        return articles;
+    }
+
     private BbsArticleDto convertToDto(BbsArticleDomain article) {
         if (article == null) {
             return null;
         }
 
-        List<AttachmentInfoDto> attachmentInfos = Collections.emptyList();
+        List<CmsFile> files = Collections.emptyList();
         if (article.getNttId() != null) {
             try {
-                List<CmsFile> files = fileService.getList(
+                files = fileService.getList(
                         ARTICLE_ATTACHMENT_MENU_TYPE,
                         article.getNttId(),
                         null);
-                if (files != null && !files.isEmpty()) {
-                    attachmentInfos = files.stream()
-                            .map(cmsFile -> AttachmentInfoDto.builder()
-                                    .fileId(cmsFile.getFileId())
-                                    .originName(cmsFile.getOriginName())
-                                    .size(cmsFile.getSize())
-                                    .mimeType(cmsFile.getMimeType())
-                                    .ext(cmsFile.getExt())
-                                    .downloadUrl(
-                                            appApiBaseUrl + "/api/v1/cms/file/public/download/" + cmsFile.getFileId())
-                                    .build())
-                            .collect(Collectors.toList());
-                }
             } catch (Exception e) {
                 log.error("Failed to fetch attachments for article {}: {}", article.getNttId(), e.getMessage(), e);
             }
         }
+        return convertToDto(article, files);
+    }
+
+    private BbsArticleDto convertToDto(BbsArticleDomain article, List<CmsFile> files) {
+        List<AttachmentInfoDto> attachmentInfos = Collections.emptyList();
+        if (files != null && !files.isEmpty()) {
+            attachmentInfos = files.stream()
+                    .map(cmsFile -> AttachmentInfoDto.builder()
+                            .fileId(cmsFile.getFileId())
+                            .originName(cmsFile.getOriginName())
+                            .size(cmsFile.getSize())
+                            .mimeType(cmsFile.getMimeType())
+                            .ext(cmsFile.getExt())
+                            .downloadUrl(
+                                    appApiBaseUrl + "/api/v1/cms/file/public/download/" + cmsFile.getFileId())
+                            .build())
+                    .collect(Collectors.toList());
+        }
 
         String skinTypeName = null;
         if (article.getBbsMaster() != null && article.getBbsMaster().getSkinType() != null) {
@@ -546,14 +689,17 @@ public class BbsArticleServiceImpl implements BbsArticleService {
                 .content(article.getContent())
                 .hasImageInContent(article.isHasImageInContent())
                 .hasAttachment(!attachmentInfos.isEmpty())
-                .noticeState(article.getNoticeState())
+                // 수정 화면에는 기간 반영 전의 지정 상태를 전달
+                .noticeState(article.getRequestedNoticeState() != null ? article.getRequestedNoticeState()
+                        : article.getNoticeState())
                 .noticeStartDt(article.getNoticeStartDt())
                 .noticeEndDt(article.getNoticeEndDt())
-                .publishState(article.getPublishState())
+                .publishState(article.getRequestedPublishState() != null ? article.getRequestedPublishState()
+                        : article.getPublishState())
                 .publishStartDt(article.getPublishStartDt())
                 .publishEndDt(article.getPublishEndDt())
                 .externalLink(article.getExternalLink())
-                .hits(article.getHits())
+                .hits(article.getHits() + hitCounter.getPending(article.getNttId()))
                 .createdAt(article.getCreatedAt())
                 .updatedAt(article.getUpdatedAt())
                 .attachments(attachmentInfos)
@@ -582,160 +728,36 @@ public class BbsArticleServiceImpl implements BbsArticleService {
                 .build();
     }
 
-    private String replaceLocalIdsInJson(String editorContentJson, Map<String, Long> localIdToFileIdMap) {
-        if (editorContentJson == null || localIdToFileIdMap == null || localIdToFileIdMap.isEmpty()) {
-            return editorContentJson;
-        }
-        try {
-            JsonNode rootNode = objectMapper.readTree(editorContentJson);
-            if (rootNode.has("root") && rootNode.get("root").has("children")) {
-                traverseAndReplace(rootNode.get("root").get("children"), localIdToFileIdMap);
-            } else if (rootNode.isArray()) {
-                traverseAndReplace(rootNode, localIdToFileIdMap);
-            } else if (rootNode.has("children")) {
-                traverseAndReplace(rootNode.get("children"), localIdToFileIdMap);
-            }
+    /**
+     * 목록 커서: 마지막 행의 (noticeState, createdAt, nttId) 를 URL-safe Base64 로 인코딩
+     */
+    private static final class ArticleCursor {
+        private final String noticeState;
+        private final LocalDateTime createdAt;
+        private final Long nttId;
 
-            return objectMapper.writeValueAsString(rootNode);
-        } catch (IOException e) {
-            log.error("Error parsing or processing editor JSON content: {}", e.getMessage());
-            return editorContentJson;
+        private ArticleCursor(String noticeState, LocalDateTime createdAt, Long nttId) {
+            this.noticeState = noticeState;
+            this.createdAt = createdAt;
+            this.nttId = nttId;
         }
-    }
-
-    private void traverseAndReplace(JsonNode node, Map<String, Long> localIdToFileIdMap) {
-        if (node.isArray()) {
-            for (JsonNode elementNode : node) {
-                traverseAndReplace(elementNode, localIdToFileIdMap);
-            }
-        } else if (node.isObject()) {
-            ObjectNode objectNode = (ObjectNode) node;
-            if (objectNode.has("type") && (objectNode.get("type").asText().equals("image")
-                    || objectNode.get("type").asText().equals("video"))) {
-                if (objectNode.has("src")) {
-                    String srcValue = objectNode.get("src").asText();
-                    log.debug("[traverseAndReplace] Found media node with src: {}", srcValue);
-                    if (localIdToFileIdMap.containsKey(srcValue)) {
-                        Long fileId = localIdToFileIdMap.get(srcValue);
-                        String newSrc = appApiBaseUrl + "/api/v1/cms/file/public/view/" + fileId;
-                        objectNode.put("src", newSrc);
-                        log.debug("[traverseAndReplace] Replaced src '{}' with '{}' (File ID: {})", srcValue, newSrc,
-                                fileId);
-                    } else {
-                        log.warn(
-                                "[traverseAndReplace] No mapping found for src: '{}'. It will not be replaced. Map keys: {}",
-                                srcValue, localIdToFileIdMap.keySet());
-                    }
-                }
-            }
 
-            objectNode.fields().forEachRemaining(entry -> {
-                if (entry.getValue().isContainerNode()) {
-                    traverseAndReplace(entry.getValue(), localIdToFileIdMap);
-                }
-            });
+        private static String encode(BbsArticleSummaryDto article) {
+            String raw = article.getNoticeState() + "|" + article.getCreatedAt() + "|" + article.getNttId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
         }
-    }
 
-    private Set<Long> extractFileIdsFromJson(String jsonContent) {
-        Set<Long> fileIds = new HashSet<>();
-        if (jsonContent == null || jsonContent.isEmpty()) {
-            return fileIds;
-        }
-        try {
-            JsonNode rootNode = objectMapper.readTree(jsonContent);
-            if (rootNode.has("root") && rootNode.get("root").has("children")) {
-                traverseAndExtractFileIdsRecursive(rootNode.get("root").get("children"), fileIds);
-            } else if (rootNode.isArray()) {
-                traverseAndExtractFileIdsRecursive(rootNode, fileIds);
-            } else if (rootNode.has("children")) {
-                traverseAndExtractFileIdsRecursive(rootNode.get("children"), fileIds);
-            }
-            log.debug("[extractFileIdsFromJson] Extracted file IDs: {}", fileIds);
-            return fileIds;
-        } catch (IOException e) {
-            log.error("Error parsing JSON for extractFileIdsFromJson: {}", e.getMessage());
-            return fileIds;
-        }
-    }
-
-    private void traverseAndExtractFileIdsRecursive(JsonNode node, Set<Long> fileIds) {
-        if (node.isArray()) {
-            for (JsonNode elementNode : node) {
-                traverseAndExtractFileIdsRecursive(elementNode, fileIds);
-            }
-        } else if (node.isObject()) {
-            ObjectNode objectNode = (ObjectNode) node;
-            if (objectNode.has("type") &&
-                    ("image".equals(objectNode.get("type").asText())
-                            || "video".equals(objectNode.get("type").asText()))) {
-                if (objectNode.has("src")) {
-                    String srcValue = objectNode.get("src").asText();
-                    if (srcValue != null && !srcValue.startsWith("blob:")) {
-                        Long fileId = parseFileIdFromSrc(srcValue);
-                        if (fileId != null) {
-                            fileIds.add(fileId);
-                        } else {
-                            log.warn("[traverseAndExtractFileIdsRecursive] Could not parse fileId from src: {}",
-                                    srcValue);
-                        }
-                    }
-                }
-            }
-
-            objectNode.fields().forEachRemaining(entry -> {
-                if (entry.getValue().isContainerNode()) {
-                    traverseAndExtractFileIdsRecursive(entry.getValue(), fileIds);
-                }
-            });
-        }
-    }
-
-    private Long parseFileIdFromSrc(String src) {
-        if (src == null)
-            return null;
-
-        // Handle "fileId:123" pattern (for backward compatibility if ever used)
-        String fileIdPrefix = "fileId:";
-        if (src.startsWith(fileIdPrefix)) {
+        private static ArticleCursor decode(String cursor) {
             try {
-                return Long.parseLong(src.substring(fileIdPrefix.length()));
-            } catch (NumberFormatException e) {
-                log.warn("Could not parse fileId from prefixed src: {}", src, e);
-                return null;
-            }
-        }
-
-        // Handle full URL pattern like "http://.../api/v1/cms/file/public/view/123"
-        // A more robust way might involve java.net.URI if URLs can be complex
-        String viewPathSegment = "/api/v1/cms/file/public/view/";
-        int lastSegmentIndex = src.lastIndexOf(viewPathSegment);
-
-        if (lastSegmentIndex != -1) {
-            String potentialIdWithPath = src.substring(lastSegmentIndex + viewPathSegment.length());
-            // Extract only the numeric part, handling potential query params or extra path
-            // segments if any
-            String numericId = potentialIdWithPath.split("[^0-9]")[0];
-            if (!numericId.isEmpty()) {
-                try {
-                    return Long.parseLong(numericId);
-                } catch (NumberFormatException e) {
-                    log.warn("Could not parse numeric fileId from URL segment: {}. Original src: {}", numericId, src,
-                            e);
-                    return null;
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", -1);
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Invalid cursor: " + cursor);
                 }
+                return new ArticleCursor(parts[0], LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
             }
         }
-
-        // If it's just a number string, assume it's a fileId directly (less likely for
-        // src)
-        // try {
-        // return Long.parseLong(src);
-        // } catch (NumberFormatException e) {
-        // // Not a simple number
-        // }
-
-        log.debug("FileId could not be parsed from src: {}", src);
-        return null;
     }
-}
\ No newline at end of file
+}
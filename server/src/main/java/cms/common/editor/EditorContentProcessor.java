@@ -0,0 +1,285 @@
+package cms.common.editor;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 에디터(Lexical) JSON 본문 처리기
+ * - 스트리밍 파서로 한 번만 읽으며 로컬 미디어 ID 치환, 참조 파일 ID 수집, 이미지 포함 여부, 평문(text 노드) 추출을 동시에 수행
+ * - 치환할 항목이 없으면 생성기 없이 읽기만 함 (본문 문자열 그대로 반환)
+ * - 미디어 노드의 src/fileId 는 type 을 알기 전에 나올 수 있어 객체가 끝날 때 기록 (필드 순서만 바뀜)
+ * - JSON 이 아니거나 파싱에 실패하면 원문을 그대로 두고 parsed=false 로 반환
+ */
+@Component
+@Slf4j
+public class EditorContentProcessor {
+
+    public static final String MEDIA_VIEW_PATH = "/api/v1/cms/file/public/view/";
+    private static final String FILE_ID_PREFIX = "fileId:";
+
+    /**
+     * 본문 종류별 미디어 처리 규칙
+     * - ARTICLE: image/video 노드, 파일 ID 는 src URL 에서 추출
+     * - POPUP: image 노드, 치환 시 fileId 필드도 기록하고 파일 ID 는 fileId 필드에서 추출
+     */
+    public enum Profile {
+        ARTICLE(false, "image", "video"),
+        POPUP(true, "image");
+
+        private final boolean fileIdField;
+        private final Set<String> mediaTypes;
+
+        Profile(boolean fileIdField, String... mediaTypes) {
+            this.fileIdField = fileIdField;
+            this.mediaTypes = new HashSet<>(Arrays.asList(mediaTypes));
+        }
+    }
+
+    private final JsonFactory jsonFactory;
+
+    @Value("${app.api.base-url}")
+    private String appApiBaseUrl;
+
+    public EditorContentProcessor(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 치환 없이 분석만 수행
+     */
+    public Result analyze(String content, Profile profile) {
+        return process(content, Collections.emptyMap(), profile);
+    }
+
+    /**
+     * 로컬 미디어 ID(src) 를 업로드된 파일의 공개 URL 로 치환하면서 분석
+     */
+    public Result process(String content, Map<String, Long> localIdToFileIdMap, Profile profile) {
+        if (content == null || content.isEmpty()) {
+            return Result.unparsed(content);
+        }
+        String trimmed = content.trim();
+        if (!trimmed.startsWith("{") && !trimmed.startsWith("[")) {
+            return Result.unparsed(content);
+        }
+        boolean rewrite = localIdToFileIdMap != null && !localIdToFileIdMap.isEmpty();
+        StringWriter writer = rewrite ? new StringWriter(content.length() + 64) : null;
+        Result result = new Result();
+        try (JsonParser parser = jsonFactory.createParser(content);
+                JsonGenerator generator = rewrite ? jsonFactory.createGenerator(writer) : null) {
+            Deque<Frame> frames = new ArrayDeque<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    if (value.isScalarValue() && capture(frames.peek(), name, parser, result)) {
+                        continue;
+                    }
+                    if (generator != null) {
+                        generator.writeFieldName(name);
+                    }
+                    token = value;
+                }
+                if (token == JsonToken.START_OBJECT) {
+                    frames.push(new Frame());
+                } else if (token == JsonToken.END_OBJECT) {
+                    completeMedia(frames.pop(), localIdToFileIdMap, profile, generator, result);
+                }
+                if (generator != null) {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Editor content is not valid JSON, leaving it unchanged: {}", e.getMessage());
+            return Result.unparsed(content);
+        }
+        result.content = rewrite ? writer.toString() : content;
+        result.parsed = true;
+        return result;
+    }
+
+    /**
+     * type/text 는 기록만 하고 그대로 출력, src/fileId 스칼라 값은 객체 끝까지 보류
+     */
+    private boolean capture(Frame frame, String name, JsonParser parser, Result result) throws IOException {
+        switch (name) {
+            case "type":
+                frame.type = parser.getValueAsString();
+                return false;
+            case "text":
+                if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                    result.plainText.append(parser.getText()).append(' ');
+                }
+                return false;
+            case "src":
+                if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                    return false;
+                }
+                frame.src = parser.getText();
+                return true;
+            case "fileId":
+                frame.fileIdToken = parser.currentToken();
+                frame.fileId = parser.getText();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void completeMedia(Frame frame, Map<String, Long> localIdToFileIdMap, Profile profile,
+            JsonGenerator generator, Result result) throws IOException {
+        if ("image".equals(frame.type)) {
+            result.hasImage = true;
+        }
+        boolean media = frame.type != null && profile.mediaTypes.contains(frame.type);
+        String src = frame.src;
+        Long mappedFileId = null;
+        if (media && src != null && localIdToFileIdMap != null) {
+            mappedFileId = localIdToFileIdMap.get(src);
+            if (mappedFileId != null) {
+                src = appApiBaseUrl + MEDIA_VIEW_PATH + mappedFileId;
+            }
+        }
+
+        if (media) {
+            if (profile.fileIdField) {
+                Long fileId = mappedFileId != null ? mappedFileId : parseLong(frame.fileId);
+                if (fileId != null) {
+                    result.fileIds.add(fileId);
+                }
+            } else if (src != null && !src.startsWith("blob:")) {
+                Long fileId = parseFileIdFromSrc(src);
+                if (fileId != null) {
+                    result.fileIds.add(fileId);
+                } else {
+                    log.debug("FileId could not be parsed from src: {}", src);
+                }
+            }
+        }
+
+        if (generator == null) {
+            return;
+        }
+        if (src != null) {
+            generator.writeStringField("src", src);
+        }
+        if (mappedFileId != null && profile.fileIdField) {
+            generator.writeNumberField("fileId", mappedFileId);
+        } else if (frame.fileIdToken != null) {
+            generator.writeFieldName("fileId");
+            writeScalar(generator, frame.fileIdToken, frame.fileId);
+        }
+    }
+
+    private static void writeScalar(JsonGenerator generator, JsonToken token, String text) throws IOException {
+        switch (token) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                generator.writeNumber(text);
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                generator.writeBoolean(token == JsonToken.VALUE_TRUE);
+                break;
+            case VALUE_NULL:
+                generator.writeNull();
+                break;
+            default:
+                generator.writeString(text);
+        }
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * src 에서 파일 ID 추출 ("fileId:123" 또는 ".../api/v1/cms/file/public/view/123")
+     */
+    public static Long parseFileIdFromSrc(String src) {
+        if (src == null) {
+            return null;
+        }
+        if (src.startsWith(FILE_ID_PREFIX)) {
+            return parseLong(src.substring(FILE_ID_PREFIX.length()));
+        }
+        int index = src.lastIndexOf(MEDIA_VIEW_PATH);
+        if (index == -1) {
+            return null;
+        }
+        int start = index + MEDIA_VIEW_PATH.length();
+        int end = start;
+        while (end < src.length() && Character.isDigit(src.charAt(end))) {
+            end++;
+        }
+        return end > start ? parseLong(src.substring(start, end)) : null;
+    }
+
+    private static final class Frame {
+        private String type;
+        private String src;
+        private JsonToken fileIdToken;
+        private String fileId;
+    }
+
+    /**
+     * 처리 결과
+     * - content: 치환된 본문 (치환이 없으면 원문)
+     * - fileIds: 본문이 참조하는 미디어 파일 ID
+     * - hasImage: image 노드 포함 여부
+     * - plainText: text 노드를 이어 붙인 평문 (parsed=false 이면 빈 문자열)
+     */
+    public static final class Result {
+        @Getter
+        private String content;
+        @Getter
+        private final Set<Long> fileIds = new LinkedHashSet<>();
+        private boolean hasImage;
+        private boolean parsed;
+        private final StringBuilder plainText = new StringBuilder();
+
+        private static Result unparsed(String content) {
+            Result result = new Result();
+            result.content = content;
+            return result;
+        }
+
+        public boolean hasImage() {
+            return hasImage;
+        }
+
+        public boolean isParsed() {
+            return parsed;
+        }
+
+        public String getPlainText() {
+            return plainText.toString();
+        }
+    }
+}
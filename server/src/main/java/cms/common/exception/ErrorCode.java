@@ -20,6 +20,7 @@ public enum ErrorCode {
     SERVICE_UNAVAILABLE("CM_0009", "현재 서비스를 사용할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
     DATA_INTEGRITY_VIOLATION("CM_0010", "데이터 무결성 제약조건을 위반했습니다. 입력값을 확인해주세요.", HttpStatus.CONFLICT),
     INVALID_REQUEST("CM_0011", "잘못된 요청입니다.", HttpStatus.BAD_REQUEST),
+    TOO_MANY_REQUESTS("CM_0012", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     // User Errors (US_xxxx)
     USER_NOT_FOUND("US_0001", "해당 사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -3,14 +3,18 @@ package cms.common.exception.handler;
 import cms.common.dto.ErrorResponse;
 import cms.common.exception.CustomBaseException;
 import cms.common.exception.ErrorCode;
+import cms.config.TenantCircuitBreaker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -206,6 +210,39 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 return new ResponseEntity<>(errorResponse, status);
         }
 
+        // Handle database unavailability (connection failures, tenant circuit open)
+        @ExceptionHandler({ CannotCreateTransactionException.class, DataAccessResourceFailureException.class })
+        public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(NestedRuntimeException ex,
+                        WebRequest request) {
+                TenantCircuitBreaker.CircuitOpenException circuitOpen = findCircuitOpen(ex);
+                int retryAfterSeconds = circuitOpen != null ? circuitOpen.getRetryAfterSeconds() : 5;
+                if (circuitOpen != null) {
+                        log.debug("Database circuit open: {}. URI: {}", circuitOpen.getMessage(),
+                                        request.getDescription(false));
+                } else {
+                        log.error("Database unavailable: {}. URI: {}", ex.getMostSpecificCause().getMessage(),
+                                        request.getDescription(false));
+                }
+                ErrorResponse errorResponse = new ErrorResponse(
+                                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                                ErrorCode.SERVICE_UNAVAILABLE.getDefaultMessage(),
+                                request.getDescription(false).replace("uri=", ""),
+                                ErrorCode.SERVICE_UNAVAILABLE.getCode());
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                                .body(errorResponse);
+        }
+
+        private TenantCircuitBreaker.CircuitOpenException findCircuitOpen(Throwable ex) {
+                for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+                        if (cause instanceof TenantCircuitBreaker.CircuitOpenException) {
+                                return (TenantCircuitBreaker.CircuitOpenException) cause;
+                        }
+                }
+                return null;
+        }
+
         // Fallback for any other unhandled exceptions: returns a generic 500 Internal
         // Server Error
         @ExceptionHandler(Exception.class)
@@ -0,0 +1,90 @@
+package cms.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 실행 설정
+ * - @Async 및 애플리케이션 Executor 에 TenantContext 전파 (미전파 시 통합 CMS DB 로 라우팅됨)
+ * - 큐 크기 제한, 포화 시 호출 스레드에서 실행 (요청 스레드의 테넌트 컨텍스트 그대로 사용)
+ * - executor.* 메트릭은 actuator 가 applicationTaskExecutor 빈 기준으로 자동 노출, 거부 건수는 app.async.rejected
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig implements AsyncConfigurer {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Value("${app.async.core-pool-size:4}")
+    private int corePoolSize;
+
+    @Value("${app.async.max-pool-size:16}")
+    private int maxPoolSize;
+
+    @Value("${app.async.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${app.async.await-termination-seconds:30}")
+    private int awaitTerminationSeconds;
+
+    // AsyncConfigurer 는 BeanPostProcessor 등록 시점에 생성되므로 MeterRegistry 는 지연 조회
+    public AsyncConfig(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    /**
+     * 애플리케이션 공용 Executor (CompletableFuture.*Async(..., executor) 에도 사용)
+     */
+    @Bean(name = { "applicationTaskExecutor", "taskExecutor" })
+    public ThreadPoolTaskExecutor applicationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("cms-async-");
+        executor.setTaskDecorator(new TenantContextTaskDecorator());
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            meterRegistryProvider.ifAvailable(registry -> registry.counter("app.async.rejected").increment());
+            new ThreadPoolExecutor.CallerRunsPolicy().rejectedExecution(task, pool);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        // 프록시된 @Bean 메서드 호출 - 컨테이너가 초기화한 동일 인스턴스 반환
+        return applicationTaskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> logger.error("Async method {} failed (tenant: {})",
+                method.getName(), DynamicDataSourceConfiguration.TenantContext.getCurrentTenantOrDefault(), ex);
+    }
+
+    /**
+     * 작업 제출 시점의 테넌트를 실행 스레드로 전파
+     */
+    public static class TenantContextTaskDecorator implements TaskDecorator {
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            return DynamicDataSourceConfiguration.TenantContext.wrap(runnable);
+        }
+    }
+}
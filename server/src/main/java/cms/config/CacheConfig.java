@@ -1,25 +1,256 @@
 package cms.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NoOpCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테넌트 인식 캐시 설정
+ * - 캐시 키에 TenantContext 의 테넌트 ID 를 포함하여 테넌트 간 캐시 공유 방지
+ * - 캐시별 최대 크기, TTL 설정 (app.multi-tenant.cache)
+ * - 적중/미스/제거 통계를 actuator metrics(cache.*) 로 노출
+ */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheConfig.TenantCacheProperties.class)
 public class CacheConfig {
+    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
 
-    @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
+    private static final String[] CACHE_NAMES = {
             "menus",
             "contents",
             "templates",
             "files"
-        );
+    };
+
+    @Bean
+    public CacheManager cacheManager(TenantCacheProperties properties) {
+        if (!properties.isEnabled()) {
+            logger.info("Tenant cache disabled (app.multi-tenant.cache.enabled=false)");
+            return new NoOpCacheManager();
+        }
+        return new TenantAwareCacheManager(properties, Arrays.asList(CACHE_NAMES));
+    }
+
+    /**
+     * actuator 캐시 메트릭 바인딩 - 기본 Caffeine 바인더는 래핑된 캐시를 인식하지 못함
+     */
+    @Bean
+    public CacheMeterBinderProvider<TenantAwareCache> tenantAwareCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
+    }
+
+    /**
+     * 테넌트 인식 캐시 매니저
+     */
+    public static class TenantAwareCacheManager implements CacheManager {
+        private final ConcurrentMap<String, TenantAwareCache> caches = new ConcurrentHashMap<>();
+        private final TenantCacheProperties properties;
+
+        public TenantAwareCacheManager(TenantCacheProperties properties, Collection<String> cacheNames) {
+            this.properties = properties;
+            cacheNames.forEach(this::getCache);
+        }
+
+        @Override
+        public Cache getCache(String name) {
+            return caches.computeIfAbsent(name, this::createCache);
+        }
+
+        @Override
+        public Collection<String> getCacheNames() {
+            return Collections.unmodifiableSet(caches.keySet());
+        }
+
+        /**
+         * 특정 테넌트의 모든 캐시 항목 제거 (테넌트 제거 시 사용)
+         */
+        public void evictTenant(String tenantId) {
+            caches.values().forEach(cache -> cache.evictTenant(tenantId));
+            logger.info("Evicted all cache entries for tenant: {}", tenantId);
+        }
+
+        private TenantAwareCache createCache(String name) {
+            CacheSpec spec = properties.resolve(name);
+
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = Caffeine.newBuilder()
+                    .maximumSize(spec.getMaxSize())
+                    .expireAfterWrite(spec.getTtl(), TimeUnit.SECONDS)
+                    .recordStats()
+                    .build();
+
+            logger.info("Created tenant-aware cache '{}' (maxSize: {}, ttl: {}s)",
+                    name, spec.getMaxSize(), spec.getTtl());
+            return new TenantAwareCache(name, nativeCache, properties.isAllowNullValues());
+        }
+    }
+
+    /**
+     * 테넌트 ID 를 키에 포함하는 Caffeine 캐시
+     */
+    public static class TenantAwareCache extends AbstractValueAdaptingCache {
+        private final String name;
+        private final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache;
+
+        public TenantAwareCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                boolean allowNullValues) {
+            super(allowNullValues);
+            this.name = name;
+            this.cache = cache;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache() {
+            return cache;
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            return cache.getIfPresent(tenantKey(key));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return (T) fromStoreValue(cache.get(tenantKey(key), k -> {
+                try {
+                    return toStoreValue(valueLoader.call());
+                } catch (Exception ex) {
+                    throw new ValueRetrievalException(key, valueLoader, ex);
+                }
+            }));
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            cache.put(tenantKey(key), toStoreValue(value));
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            Object storeValue = toStoreValue(value);
+            Object existing = cache.asMap().putIfAbsent(tenantKey(key), storeValue);
+            return toValueWrapper(existing);
+        }
+
+        @Override
+        public void evict(Object key) {
+            cache.invalidate(tenantKey(key));
+        }
+
+        /**
+         * allEntries 제거는 현재 테넌트 범위로 한정
+         */
+        @Override
+        public void clear() {
+            evictTenant(DynamicDataSourceConfiguration.TenantContext.getCurrentTenantOrDefault());
+        }
+
+        public void evictTenant(String tenantId) {
+            cache.asMap().keySet().removeIf(key -> key instanceof TenantCacheKey
+                    && ((TenantCacheKey) key).getTenantId().equals(tenantId));
+        }
+
+        private static TenantCacheKey tenantKey(Object key) {
+            return new TenantCacheKey(DynamicDataSourceConfiguration.TenantContext.getCurrentTenantOrDefault(), key);
+        }
+    }
+
+    /**
+     * (테넌트 ID, 원본 키) 복합 캐시 키
+     */
+    @Getter
+    public static final class TenantCacheKey {
+        private final String tenantId;
+        private final Object key;
+        private final int hash;
+
+        public TenantCacheKey(String tenantId, Object key) {
+            this.tenantId = tenantId;
+            this.key = key;
+            this.hash = 31 * tenantId.hashCode() + Objects.hashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TenantCacheKey)) {
+                return false;
+            }
+            TenantCacheKey other = (TenantCacheKey) o;
+            return tenantId.equals(other.tenantId) && Objects.equals(key, other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return tenantId + ":" + key;
+        }
+    }
+
+    /**
+     * 캐시 설정 (app.multi-tenant.cache)
+     * - ttl, max-size 는 전체 기본값이며 caches.<name> 으로 캐시별 재정의
+     * - 시간 단위는 초
+     */
+    @Getter
+    @Setter
+    @ConfigurationProperties(prefix = "app.multi-tenant.cache")
+    public static class TenantCacheProperties {
+        private boolean enabled = true;
+        private boolean allowNullValues = false;
+        private long ttl = 3600;
+        private long maxSize = 1000;
+        private Map<String, CacheSpec> caches = new HashMap<>();
+
+        public CacheSpec resolve(String cacheName) {
+            CacheSpec override = caches.get(cacheName);
+            CacheSpec resolved = new CacheSpec();
+            resolved.setTtl(override != null && override.getTtl() != null ? override.getTtl() : ttl);
+            resolved.setMaxSize(override != null && override.getMaxSize() != null ? override.getMaxSize() : maxSize);
+            return resolved;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class CacheSpec {
+        private Long ttl;
+        private Long maxSize;
     }
-} 
- 
- 
- 
\ No newline at end of file
+}
@@ -2,22 +2,42 @@ package cms.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.annotation.PostConstruct;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * 동적 멀티 테넌트 데이터소스 설정
@@ -31,9 +51,11 @@ public class DynamicDataSourceConfiguration {
 
     @Bean
     @Primary
-    public DataSource routingDataSource(DynamicDataSourceManager dataSourceManager) {
+    public DataSource routingDataSource(DynamicDataSourceManager dataSourceManager,
+            TenantCircuitBreaker circuitBreaker) {
         DynamicRoutingDataSource routingDataSource = new DynamicRoutingDataSource();
         routingDataSource.setDataSourceManager(dataSourceManager);
+        routingDataSource.setCircuitBreaker(circuitBreaker);
 
         // 기본 데이터소스 설정 (통합 CMS)
         Map<Object, Object> targetDataSources = new HashMap<>();
@@ -41,46 +63,113 @@ public class DynamicDataSourceConfiguration {
 
         routingDataSource.setTargetDataSources(targetDataSources);
         routingDataSource.setDefaultTargetDataSource(targetDataSources.get("integrated"));
+        routingDataSource.afterPropertiesSet();
 
         logger.info("Dynamic routing DataSource configured with default tenant: integrated");
-        return routingDataSource;
+
+        // 실제 커넥션 획득을 첫 SQL 실행 시점으로 미뤄 readOnly 트랜잭션 여부가 확정된 뒤 라우팅되도록 함
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 테넌트 풀 공통 설정 템플릿 (spring.datasource.tenant-defaults.hikari)
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.tenant-defaults.hikari")
+    public HikariConfig tenantPoolTemplate() {
+        return new HikariConfig();
     }
 
     /**
      * 동적 라우팅 데이터소스
+     * - (테넌트, 읽기/쓰기) 기준 라우팅: readOnly 트랜잭션은 정상 상태의 복제본 풀로 전달
+     * - 복제본 커넥션 획득 실패 시 복제본을 비정상 처리하고 주 데이터소스로 대체
+     * - 주 데이터소스 커넥션 획득은 테넌트별 서킷 브레이커를 거침 (장애 테넌트는 connectionTimeout 대기 없이 즉시 실패)
      */
     public static class DynamicRoutingDataSource extends AbstractRoutingDataSource {
         private static final Logger logger = LoggerFactory.getLogger(DynamicRoutingDataSource.class);
         private DynamicDataSourceManager dataSourceManager;
+        private TenantCircuitBreaker circuitBreaker;
 
         public void setDataSourceManager(DynamicDataSourceManager dataSourceManager) {
             this.dataSourceManager = dataSourceManager;
         }
 
+        public void setCircuitBreaker(TenantCircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+        }
+
         @Override
         protected Object determineCurrentLookupKey() {
-            String tenantId = TenantContext.getCurrentTenant();
-            if (tenantId == null) {
-                tenantId = "integrated"; // 기본 테넌트
+            String tenantId = TenantContext.getCurrentTenantOrDefault();
+            logger.debug("Routing to tenant: {}", tenantId);
+            return tenantId;
+        }
+
+        @Override
+        protected DataSource determineTargetDataSource() {
+            DataSource replicaDataSource = determineReplicaDataSource();
+            return replicaDataSource != null ? replicaDataSource : determinePrimaryDataSource();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            // 스키마 격리 테넌트는 공유 풀 커넥션의 기본 스키마를 전환해 사용 (JPA 포함 모든 접근의 유일한 스키마 전환 지점)
+            // LazyConnectionDataSourceProxy 뒤에 있어 첫 SQL 시점의 TenantContext 기준으로 결정됨
+            String tenantId = TenantContext.getCurrentTenantOrDefault();
+            if (dataSourceManager != null && dataSourceManager.isSchemaTenant(tenantId)) {
+                return dataSourceManager.getSchemaConnection(tenantId);
             }
 
-            // 동적으로 데이터소스가 추가된 경우 업데이트
-            if (dataSourceManager != null && dataSourceManager.hasDataSource(tenantId)) {
-                dataSourceManager.ensureDataSourceExists(tenantId);
+            DataSource replicaDataSource = determineReplicaDataSource();
+            if (replicaDataSource != null) {
+                try {
+                    return replicaDataSource.getConnection();
+                } catch (SQLException e) {
+                    dataSourceManager.markReplicaUnhealthy(tenantId, e);
+                }
+            }
+            DataSource primaryDataSource = determinePrimaryDataSource();
+            if (circuitBreaker == null) {
+                return primaryDataSource.getConnection();
             }
+            return circuitBreaker.acquire(tenantId, primaryDataSource::getConnection, primaryDataSource);
+        }
 
-            logger.debug("Routing to tenant: {}", tenantId);
-            return tenantId;
+        private DataSource determineReplicaDataSource() {
+            if (dataSourceManager == null || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                return null;
+            }
+            return dataSourceManager.getReplicaDataSource(TenantContext.getCurrentTenantOrDefault());
+        }
+
+        /**
+         * 런타임에 추가된 테넌트 풀은 targetDataSources 에 없으므로 관리자에서 먼저 조회
+         */
+        private DataSource determinePrimaryDataSource() {
+            if (dataSourceManager != null) {
+                DataSource tenantDataSource = dataSourceManager.getDataSource(TenantContext.getCurrentTenantOrDefault());
+                if (tenantDataSource != null) {
+                    return tenantDataSource;
+                }
+            }
+            return super.determineTargetDataSource();
         }
     }
 
     /**
      * 동적 데이터소스 관리자
+     * - 테넌트 풀은 첫 커넥션 요청 시점에 지연 시작
+     * - 일정 시간 사용이 없는 테넌트 풀은 커넥션 0개로 휴면, 다음 요청에서 제한된 수로 재개
+     * - 격리 방식은 테넌트별 선택: DATABASE(테넌트 전용 풀) / SCHEMA(공유 풀 + 커넥션 획득 시 스키마 전환)
      */
     @Component
     public static class DynamicDataSourceManager {
         private static final Logger logger = LoggerFactory.getLogger(DynamicDataSourceManager.class);
-        private final Map<String, DataSource> dataSources = new ConcurrentHashMap<>();
+        private final Map<String, TenantPool> tenantPools = new ConcurrentHashMap<>();
+        private final Map<String, ReplicaPool> replicaPools = new ConcurrentHashMap<>();
+        private final Map<String, String> schemaTenants = new ConcurrentHashMap<>();
+        private volatile HikariDataSource sharedSchemaDataSource;
 
         @Value("${spring.datasource.url}")
         private String defaultUrl;
@@ -91,68 +180,334 @@ public class DynamicDataSourceConfiguration {
         @Value("${spring.datasource.password}")
         private String defaultPassword;
 
+        @Value("${app.multi-tenant.pool.hibernation.enabled:true}")
+        private boolean hibernationEnabled;
+
+        @Value("${app.multi-tenant.pool.hibernation.idle-timeout:900000}")
+        private long hibernationIdleTimeout;
+
+        @Value("${app.multi-tenant.pool.hibernation.warm-up-connections:1}")
+        private int warmUpConnections;
+
+        @Value("${app.multi-tenant.pool.sizing.enabled:true}")
+        private boolean sizingEnabled;
+
+        @Value("${app.multi-tenant.pool.sizing.global-max-connections:100}")
+        private int globalMaxConnections;
+
+        @Value("${app.multi-tenant.pool.sizing.min-pool-size:2}")
+        private int minPoolSize;
+
+        @Value("${app.multi-tenant.pool.sizing.shrink-step:2}")
+        private int shrinkStep;
+
+        @Value("${app.multi-tenant.replica.enabled:false}")
+        private boolean replicaEnabled;
+
+        @Value("${app.multi-tenant.replica.max-lag-seconds:5}")
+        private long replicaMaxLagSeconds;
+
+        @Value("${app.multi-tenant.replica.connection-timeout:2000}")
+        private long replicaConnectionTimeout;
+
+        @Value("${app.multi-tenant.schema-mode.url:${spring.datasource.url}}")
+        private String sharedSchemaUrl;
+
+        @Value("${app.multi-tenant.schema-mode.username:${spring.datasource.username}}")
+        private String sharedSchemaUsername;
+
+        @Value("${app.multi-tenant.schema-mode.password:${spring.datasource.password}}")
+        private String sharedSchemaPassword;
+
+        @Value("${app.multi-tenant.schema-mode.default-schema:integrated_cms}")
+        private String sharedDefaultSchema;
+
+        @Value("${app.multi-tenant.schema-mode.maximum-pool-size:30}")
+        private int sharedMaximumPoolSize;
+
+        @Autowired
+        private Environment environment;
+
+        @Autowired(required = false)
+        private TenantCircuitBreaker circuitBreaker;
+
+        @Autowired(required = false)
+        @Qualifier("tenantPoolTemplate")
+        private HikariConfig tenantPoolTemplate;
+
         /**
-         * 기본 데이터소스 생성
+         * 기본 데이터소스 생성 (통합 CMS 는 즉시 시작하며 휴면 대상에서 제외)
          */
         public DataSource createDefaultDataSource() {
-            return createDataSource("integrated", defaultUrl, defaultUsername, defaultPassword);
+            return new HikariDataSource(createPoolConfig(TenantContext.DEFAULT_TENANT, defaultUrl, defaultUsername,
+                    defaultPassword));
         }
 
         /**
          * 새 테넌트 데이터소스 생성
          */
         public DataSource createTenantDataSource(String tenantId, String url, String username, String password) {
-            if (dataSources.containsKey(tenantId)) {
+            TenantPool existing = tenantPools.get(tenantId);
+            if (existing != null) {
                 logger.warn("DataSource for tenant {} already exists", tenantId);
-                return dataSources.get(tenantId);
+                return existing.dataSource;
             }
 
-            DataSource dataSource = createDataSource(tenantId, url, username, password);
-            dataSources.put(tenantId, dataSource);
+            HikariConfig config = createPoolConfig(tenantId, url, username, password);
+
+            // 기본 생성자로 만든 HikariDataSource 는 첫 getConnection() 에서 풀을 시작한다
+            HikariDataSource dataSource = new HikariDataSource();
+            config.copyStateTo(dataSource);
+
+            TenantPool tenantPool = new TenantPool(dataSource, config.getMinimumIdle(),
+                    config.getMaximumPoolSize() > 0 ? config.getMaximumPoolSize() : 10);
+            TenantPool raced = tenantPools.putIfAbsent(tenantId, tenantPool);
+            if (raced != null) {
+                return raced.dataSource;
+            }
 
-            logger.info("Created new DataSource for tenant: {}", tenantId);
+            logger.info("Registered DataSource for tenant: {} (lazy start)", tenantId);
             return dataSource;
         }
 
         /**
-         * 데이터소스 생성 공통 메서드
+         * 테넌트 읽기 전용 복제본 데이터소스 등록 (지연 시작, 크기 자동 조정 대상 아님)
+         * - 커넥션/초기화 대기는 replica.connection-timeout 으로 짧게 (장애 복제본이 요청과 점검 스케줄러를 붙잡지 않도록)
          */
-        private DataSource createDataSource(String tenantId, String url, String username, String password) {
+        public DataSource createReplicaDataSource(String tenantId, String url, String username, String password) {
+            ReplicaPool existing = replicaPools.get(tenantId);
+            if (existing != null) {
+                logger.warn("Replica DataSource for tenant {} already exists", tenantId);
+                return existing.dataSource;
+            }
+
+            HikariConfig config = createPoolConfig(tenantId, url, username, password);
+            config.setPoolName(tenantId + "-replica-pool");
+            config.setReadOnly(true);
+            config.setConnectionTimeout(replicaConnectionTimeout);
+            config.setInitializationFailTimeout(replicaConnectionTimeout);
+
+            HikariDataSource dataSource = new HikariDataSource();
+            config.copyStateTo(dataSource);
+
+            ReplicaPool raced = replicaPools.putIfAbsent(tenantId, new ReplicaPool(dataSource));
+            if (raced != null) {
+                return raced.dataSource;
+            }
+
+            logger.info("Registered replica DataSource for tenant: {} (lazy start)", tenantId);
+            return dataSource;
+        }
+
+        /**
+         * readOnly 트랜잭션용 복제본 조회 (미사용/미등록/비정상이면 null)
+         */
+        public DataSource getReplicaDataSource(String tenantId) {
+            if (!replicaEnabled) {
+                return null;
+            }
+            ReplicaPool replicaPool = replicaPools.get(tenantId);
+            return replicaPool != null && replicaPool.healthy ? replicaPool.dataSource : null;
+        }
+
+        /**
+         * 복제본 비정상 처리 - 다음 상태 점검에서 복구될 때까지 주 데이터소스 사용
+         */
+        public void markReplicaUnhealthy(String tenantId, Exception cause) {
+            ReplicaPool replicaPool = replicaPools.get(tenantId);
+            if (replicaPool != null && replicaPool.healthy) {
+                replicaPool.healthy = false;
+                logger.warn("Replica for tenant {} marked unhealthy, falling back to primary: {}", tenantId,
+                        cause.getMessage());
+            }
+        }
+
+        /**
+         * 복제본 상태 점검
+         * - 복제 지연(Seconds_Behind_Master)이 max-lag-seconds 를 넘거나 복제가 중단되면 비정상
+         * - 아직 시작되지 않은 정상 복제본은 점검하지 않음
+         */
+        @Scheduled(fixedDelayString = "${app.multi-tenant.replica.health-check-interval:10000}")
+        public void checkReplicas() {
+            if (!replicaEnabled) {
+                return;
+            }
+            replicaPools.forEach((tenantId, replicaPool) -> {
+                if (replicaPool.healthy && replicaPool.dataSource.getHikariPoolMXBean() == null) {
+                    return;
+                }
+                boolean healthy;
+                try {
+                    replicaPool.lagSeconds = queryReplicationLag(replicaPool.dataSource);
+                    healthy = replicaPool.lagSeconds >= 0 && replicaPool.lagSeconds <= replicaMaxLagSeconds;
+                } catch (Exception e) {
+                    replicaPool.lagSeconds = -1;
+                    healthy = false;
+                    logger.debug("Replica health check failed for tenant {}: {}", tenantId, e.getMessage());
+                }
+                if (healthy != replicaPool.healthy) {
+                    replicaPool.healthy = healthy;
+                    logger.info("Replica for tenant {} is now {} (lag: {}s)", tenantId,
+                            healthy ? "healthy" : "unhealthy", replicaPool.lagSeconds);
+                }
+            });
+        }
+
+        /**
+         * 복제 지연(초) 조회 - 복제 상태가 없으면 0, 복제 중단 시 -1
+         */
+        private long queryReplicationLag(DataSource dataSource) throws SQLException {
+            try (Connection connection = dataSource.getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(2);
+                try (ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+                    if (!resultSet.next()) {
+                        return 0;
+                    }
+                    long lag = resultSet.getLong("Seconds_Behind_Master");
+                    return resultSet.wasNull() ? -1 : lag;
+                }
+            }
+        }
+
+        /**
+         * 풀 설정 생성 공통 메서드
+         * - 테넌트 풀은 spring.datasource.tenant-defaults.hikari 템플릿을 복사해 사용
+         */
+        private HikariConfig createPoolConfig(String tenantId, String url, String username, String password) {
             HikariConfig config = new HikariConfig();
+            boolean defaultTenant = TenantContext.DEFAULT_TENANT.equals(tenantId);
+            if (!defaultTenant && tenantPoolTemplate != null) {
+                tenantPoolTemplate.copyStateTo(config);
+                // 템플릿의 Properties 인스턴스를 공유하지 않도록 복사
+                Properties dataSourceProperties = new Properties();
+                dataSourceProperties.putAll(tenantPoolTemplate.getDataSourceProperties());
+                config.setDataSourceProperties(dataSourceProperties);
+            } else {
+                if (defaultTenant) {
+                    config.setMaximumPoolSize(20);
+                    config.setMinimumIdle(5);
+                } else {
+                    config.setMaximumPoolSize(10);
+                    config.setMinimumIdle(2);
+                }
+                config.setConnectionTimeout(30000);
+                config.setIdleTimeout(600000);
+                config.setMaxLifetime(1800000);
+                config.setLeakDetectionThreshold(60000);
+
+                // 성능 최적화 설정
+                config.addDataSourceProperty("cachePrepStmts", "true");
+                config.addDataSourceProperty("prepStmtCacheSize", "250");
+                config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+                config.addDataSourceProperty("useServerPrepStmts", "true");
+            }
+
             config.setJdbcUrl(url);
             config.setUsername(username);
             config.setPassword(password);
             config.setDriverClassName("org.mariadb.jdbc.Driver");
             config.setPoolName(tenantId + "-pool");
+            return config;
+        }
 
-            // 테넌트별 풀 설정
-            if ("integrated".equals(tenantId)) {
-                config.setMaximumPoolSize(20);
-                config.setMinimumIdle(5);
-            } else {
-                config.setMaximumPoolSize(10);
-                config.setMinimumIdle(2);
+        /**
+         * 라우팅용 테넌트 데이터소스 조회 (미등록 테넌트는 null)
+         * - 접근 시각 갱신, 휴면 상태면 재개
+         */
+        public DataSource getDataSource(String tenantId) {
+            TenantPool tenantPool = tenantPools.get(tenantId);
+            if (tenantPool == null) {
+                return null;
+            }
+            tenantPool.lastAccessTime = System.currentTimeMillis();
+            if (tenantPool.state != PoolState.ACTIVE) {
+                wakeUp(tenantId, tenantPool);
             }
+            return tenantPool.dataSource;
+        }
 
-            config.setConnectionTimeout(30000);
-            config.setIdleTimeout(600000);
-            config.setMaxLifetime(1800000);
-            config.setLeakDetectionThreshold(60000);
+        /**
+         * 데이터소스 존재 확인
+         */
+        public boolean hasDataSource(String tenantId) {
+            return tenantPools.containsKey(tenantId) || schemaTenants.containsKey(tenantId);
+        }
 
-            // 성능 최적화 설정
-            config.addDataSourceProperty("cachePrepStmts", "true");
-            config.addDataSourceProperty("prepStmtCacheSize", "250");
-            config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
-            config.addDataSourceProperty("useServerPrepStmts", "true");
+        /**
+         * 스키마 격리 테넌트 등록 (전용 풀 없이 공유 풀 사용)
+         */
+        public void registerSchemaTenant(String tenantId, String schema) {
+            if (TenantContext.DEFAULT_TENANT.equals(tenantId)) {
+                throw new IllegalArgumentException("Default tenant cannot use schema isolation");
+            }
+            if (schema == null || !schema.matches("^[A-Za-z0-9_]+$")) {
+                throw new IllegalArgumentException("Invalid schema name: " + schema);
+            }
+            if (tenantPools.containsKey(tenantId)) {
+                throw new IllegalStateException("Tenant " + tenantId + " already uses a dedicated pool");
+            }
+            schemaTenants.put(tenantId, schema);
+            logger.info("Registered schema-isolated tenant: {} (schema: {})", tenantId, schema);
+        }
 
-            return new HikariDataSource(config);
+        /**
+         * 데이터소스가 등록된 테넌트 ID (전용 풀 + 스키마 격리, 통합 CMS 제외) - 테넌트 레지스트리에 병합
+         */
+        public Set<String> getTenantIds() {
+            Set<String> tenantIds = new LinkedHashSet<>(tenantPools.keySet());
+            tenantIds.addAll(schemaTenants.keySet());
+            return tenantIds;
+        }
+
+        public boolean isSchemaTenant(String tenantId) {
+            return schemaTenants.containsKey(tenantId);
         }
 
         /**
-         * 데이터소스 존재 확인
+         * 스키마 격리 테넌트 커넥션 - 공유 풀에서 획득 후 기본 스키마 전환
+         * (반납 시 Hikari 가 풀 기본 catalog 로 되돌림)
          */
-        public boolean hasDataSource(String tenantId) {
-            return dataSources.containsKey(tenantId);
+        public Connection getSchemaConnection(String tenantId) throws SQLException {
+            String schema = schemaTenants.get(tenantId);
+            if (schema == null) {
+                throw new SQLException("Tenant " + tenantId + " is not schema-isolated");
+            }
+            if (circuitBreaker == null) {
+                return openSchemaConnection(schema);
+            }
+            return circuitBreaker.acquire(tenantId, () -> openSchemaConnection(schema), sharedSchemaDataSource);
+        }
+
+        private Connection openSchemaConnection(String schema) throws SQLException {
+            Connection connection = sharedSchemaDataSource().getConnection();
+            try {
+                connection.setCatalog(schema);
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+            return connection;
+        }
+
+        private HikariDataSource sharedSchemaDataSource() {
+            HikariDataSource dataSource = sharedSchemaDataSource;
+            if (dataSource == null) {
+                synchronized (this) {
+                    dataSource = sharedSchemaDataSource;
+                    if (dataSource == null) {
+                        HikariConfig config = createPoolConfig("shared-schema", sharedSchemaUrl, sharedSchemaUsername,
+                                sharedSchemaPassword);
+                        config.setMaximumPoolSize(sharedMaximumPoolSize);
+                        config.setCatalog(sharedDefaultSchema);
+                        dataSource = new HikariDataSource();
+                        config.copyStateTo(dataSource);
+                        sharedSchemaDataSource = dataSource;
+                        logger.info("Registered shared schema-mode DataSource (maxPoolSize: {})", sharedMaximumPoolSize);
+                    }
+                }
+            }
+            return dataSource;
         }
 
         /**
@@ -167,6 +522,7 @@ public class DynamicDataSourceConfiguration {
 
                 if (url != null && username != null && password != null) {
                     createTenantDataSource(tenantId, url, username, password);
+                    ensureReplicaExists(tenantId, username, password);
                     logger.info("Dynamically created DataSource for tenant: {}", tenantId);
                 } else {
                     logger.warn("Configuration not found for tenant: {}. Using default datasource.", tenantId);
@@ -174,6 +530,22 @@ public class DynamicDataSourceConfiguration {
             }
         }
 
+        /**
+         * 환경변수({TENANT}_REPLICA_DATASOURCE_URL)에 복제본이 있으면 등록 (계정 미지정 시 주 계정 사용)
+         */
+        private void ensureReplicaExists(String tenantId, String primaryUsername, String primaryPassword) {
+            String prefix = tenantId.toUpperCase();
+            String url = System.getenv(prefix + "_REPLICA_DATASOURCE_URL");
+            if (url == null || replicaPools.containsKey(tenantId)) {
+                return;
+            }
+            String username = System.getenv(prefix + "_REPLICA_DB_USERNAME");
+            String password = System.getenv(prefix + "_REPLICA_DB_PASSWORD");
+            createReplicaDataSource(tenantId, url,
+                    username != null ? username : primaryUsername,
+                    password != null ? password : primaryPassword);
+        }
+
         /**
          * 시작 시 기존 테넌트 초기화
          */
@@ -181,6 +553,9 @@ public class DynamicDataSourceConfiguration {
         public void initializeKnownTenants() {
             logger.info("Initializing known tenants from environment variables...");
 
+            // 통합 CMS 복제본
+            ensureReplicaExists(TenantContext.DEFAULT_TENANT, defaultUsername, defaultPassword);
+
             // douzone 테넌트 자동 초기화
             ensureDataSourceExists("douzone");
 
@@ -193,18 +568,190 @@ public class DynamicDataSourceConfiguration {
                 }
             }
 
-            logger.info("Tenant initialization completed. Active tenants: {}", dataSources.keySet());
+            // 스키마 격리 테넌트 (app.multi-tenant.schema-mode.tenants: {테넌트ID: 스키마})
+            Binder.get(environment)
+                    .bind("app.multi-tenant.schema-mode.tenants", Bindable.mapOf(String.class, String.class))
+                    .ifBound(tenants -> tenants.forEach(this::registerSchemaTenant));
+
+            logger.info("Tenant initialization completed. Registered tenants: {}, schema tenants: {}",
+                    tenantPools.keySet(), schemaTenants.keySet());
+        }
+
+        /**
+         * 유휴 테넌트 풀 휴면 처리
+         * - idle-timeout 동안 접근이 없고 사용 중인 커넥션이 없으면 최소 유휴 0 + 유휴 커넥션 즉시 반납
+         */
+        @Scheduled(fixedDelayString = "${app.multi-tenant.pool.hibernation.check-interval:60000}")
+        public void hibernateIdlePools() {
+            if (!hibernationEnabled) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            tenantPools.forEach((tenantId, tenantPool) -> {
+                if (tenantPool.state == PoolState.ACTIVE
+                        && now - tenantPool.lastAccessTime >= hibernationIdleTimeout) {
+                    hibernate(tenantId, tenantPool);
+                }
+            });
+        }
+
+        private void hibernate(String tenantId, TenantPool tenantPool) {
+            synchronized (tenantPool) {
+                HikariPoolMXBean poolMXBean = tenantPool.dataSource.getHikariPoolMXBean();
+                if (tenantPool.state != PoolState.ACTIVE || poolMXBean == null
+                        || poolMXBean.getActiveConnections() > 0) {
+                    return;
+                }
+                tenantPool.dataSource.getHikariConfigMXBean().setMinimumIdle(0);
+                poolMXBean.softEvictConnections();
+                tenantPool.state = PoolState.HIBERNATED;
+            }
+            logger.info("Hibernated idle connection pool for tenant: {}", tenantId);
+        }
+
+        private void wakeUp(String tenantId, TenantPool tenantPool) {
+            synchronized (tenantPool) {
+                if (tenantPool.state == PoolState.ACTIVE) {
+                    return;
+                }
+                if (tenantPool.state == PoolState.HIBERNATED) {
+                    // 재개 시 한 번에 채우는 유휴 커넥션 수를 제한 (나머지는 요청에 따라 증가)
+                    tenantPool.dataSource.getHikariConfigMXBean()
+                            .setMinimumIdle(Math.min(tenantPool.configuredMinimumIdle, warmUpConnections));
+                    tenantPool.warmingUp = true;
+                    logger.info("Waking up connection pool for tenant: {}", tenantId);
+                }
+                tenantPool.state = PoolState.ACTIVE;
+            }
+        }
+
+        /**
+         * 테넌트 풀 크기 재조정
+         * - 풀별 수요(사용 중 + 대기 스레드)를 기준으로 maximumPoolSize 를 조정
+         * - 전체 테넌트 풀 최대 크기 합은 global-max-connections 를 넘지 않음 (통합 CMS 풀 제외)
+         * - 증가는 즉시, 감소는 shrink-step 단위로 완만하게 적용
+         */
+        @Scheduled(fixedDelayString = "${app.multi-tenant.pool.sizing.interval:5000}")
+        public void rebalancePoolSizes() {
+            if (!sizingEnabled || tenantPools.isEmpty()) {
+                tenantPools.forEach(this::restoreMinimumIdle);
+                return;
+            }
+
+            Map<String, TenantPool> pools = new HashMap<>(tenantPools);
+            Map<String, Integer> floors = new HashMap<>();
+            Map<String, Integer> targets = new HashMap<>();
+            Map<String, Integer> waiting = new HashMap<>();
+
+            pools.forEach((tenantId, tenantPool) -> {
+                int ceiling = Math.max(minPoolSize, tenantPool.configuredMaximumPoolSize);
+                int floor = Math.min(minPoolSize, ceiling);
+                HikariPoolMXBean poolMXBean = tenantPool.dataSource.getHikariPoolMXBean();
+                int target = floor;
+                if (tenantPool.state == PoolState.ACTIVE && poolMXBean != null) {
+                    int active = poolMXBean.getActiveConnections();
+                    int awaiting = poolMXBean.getThreadsAwaitingConnection();
+                    int demand = active + awaiting;
+                    int desired = demand + Math.max(1, demand / 4);
+                    int current = tenantPool.dataSource.getMaximumPoolSize();
+                    if (awaiting == 0 && desired < current) {
+                        desired = Math.max(desired, current - shrinkStep);
+                    }
+                    target = Math.max(floor, Math.min(ceiling, desired));
+                    waiting.put(tenantId, awaiting);
+                }
+                floors.put(tenantId, floor);
+                targets.put(tenantId, target);
+            });
+
+            int requested = targets.values().stream().mapToInt(Integer::intValue).sum();
+            if (requested > globalMaxConnections) {
+                distributeBudget(floors, targets, waiting);
+            }
+
+            targets.forEach((tenantId, target) -> {
+                HikariDataSource dataSource = pools.get(tenantId).dataSource;
+                int current = dataSource.getMaximumPoolSize();
+                if (current == target) {
+                    return;
+                }
+                if (dataSource.getMinimumIdle() > target) {
+                    dataSource.getHikariConfigMXBean().setMinimumIdle(target);
+                }
+                dataSource.getHikariConfigMXBean().setMaximumPoolSize(target);
+                logger.debug("Resized connection pool for tenant {}: {} -> {}", tenantId, current, target);
+            });
+            pools.forEach(this::restoreMinimumIdle);
+        }
+
+        /**
+         * 재개 후 워밍업 수만큼 커넥션이 찼거나 축소로 낮아진 최소 유휴를 설정값으로 복원 (현재 최대 크기 이내)
+         */
+        private void restoreMinimumIdle(String tenantId, TenantPool tenantPool) {
+            synchronized (tenantPool) {
+                HikariPoolMXBean poolMXBean = tenantPool.dataSource.getHikariPoolMXBean();
+                if (tenantPool.state != PoolState.ACTIVE || poolMXBean == null) {
+                    return;
+                }
+                int minimumIdle = tenantPool.dataSource.getMinimumIdle();
+                if (tenantPool.warmingUp) {
+                    if (poolMXBean.getTotalConnections() < minimumIdle) {
+                        return;
+                    }
+                    tenantPool.warmingUp = false;
+                }
+                int restored = Math.min(tenantPool.configuredMinimumIdle, tenantPool.dataSource.getMaximumPoolSize());
+                if (minimumIdle < restored) {
+                    tenantPool.dataSource.getHikariConfigMXBean().setMinimumIdle(restored);
+                    logger.debug("Restored minimum idle for tenant {}: {} -> {}", tenantId, minimumIdle, restored);
+                }
+            }
+        }
+
+        /**
+         * 예산 초과 시 최소 크기를 먼저 보장하고 남은 커넥션을 추가 수요에 비례해 배분
+         * - 대기 스레드가 많은 테넌트부터 반올림 잔여분을 우선 배정
+         */
+        private void distributeBudget(Map<String, Integer> floors, Map<String, Integer> targets,
+                Map<String, Integer> waiting) {
+            int remaining = globalMaxConnections - floors.values().stream().mapToInt(Integer::intValue).sum();
+            int totalExtra = 0;
+            for (Map.Entry<String, Integer> entry : targets.entrySet()) {
+                totalExtra += entry.getValue() - floors.get(entry.getKey());
+            }
+
+            List<String> order = new ArrayList<>(targets.keySet());
+            order.sort(Comparator.comparingInt((String tenantId) -> waiting.getOrDefault(tenantId, 0)).reversed());
+
+            int budget = Math.max(0, remaining);
+            for (String tenantId : order) {
+                int floor = floors.get(tenantId);
+                int extra = targets.get(tenantId) - floor;
+                int granted = totalExtra > 0 ? Math.min(extra, (int) Math.ceil((double) budget * extra / totalExtra)) : 0;
+                granted = Math.min(granted, Math.max(0, remaining));
+                remaining -= granted;
+                targets.put(tenantId, floor + granted);
+            }
+            logger.debug("Tenant pool budget exceeded (limit: {}), redistributed: {}", globalMaxConnections, targets);
         }
 
         /**
          * 데이터소스 제거
          */
         public void removeDataSource(String tenantId) {
-            DataSource dataSource = dataSources.remove(tenantId);
-            if (dataSource instanceof HikariDataSource) {
-                ((HikariDataSource) dataSource).close();
+            TenantPool tenantPool = tenantPools.remove(tenantId);
+            if (tenantPool != null) {
+                tenantPool.dataSource.close();
                 logger.info("Removed DataSource for tenant: {}", tenantId);
             }
+            ReplicaPool replicaPool = replicaPools.remove(tenantId);
+            if (replicaPool != null) {
+                replicaPool.dataSource.close();
+                logger.info("Removed replica DataSource for tenant: {}", tenantId);
+            }
+            if (schemaTenants.remove(tenantId) != null) {
+                logger.info("Removed schema-isolated tenant: {}", tenantId);
+            }
         }
 
         /**
@@ -212,23 +759,92 @@ public class DynamicDataSourceConfiguration {
          */
         public Map<String, String> getDataSourceInfo() {
             Map<String, String> info = new HashMap<>();
-            dataSources.forEach((tenantId, dataSource) -> {
-                if (dataSource instanceof HikariDataSource) {
-                    HikariDataSource hikariDS = (HikariDataSource) dataSource;
-                    info.put(tenantId, String.format("Pool: %s, Active: %d, Idle: %d",
-                            hikariDS.getPoolName(),
-                            hikariDS.getHikariPoolMXBean().getActiveConnections(),
-                            hikariDS.getHikariPoolMXBean().getIdleConnections()));
-                }
+            tenantPools.forEach((tenantId, tenantPool) -> {
+                HikariPoolMXBean poolMXBean = tenantPool.dataSource.getHikariPoolMXBean();
+                info.put(tenantId, String.format("Pool: %s, State: %s, Active: %d, Idle: %d, Waiting: %d, Max: %d",
+                        tenantPool.dataSource.getPoolName(),
+                        tenantPool.state,
+                        poolMXBean != null ? poolMXBean.getActiveConnections() : 0,
+                        poolMXBean != null ? poolMXBean.getIdleConnections() : 0,
+                        poolMXBean != null ? poolMXBean.getThreadsAwaitingConnection() : 0,
+                        tenantPool.dataSource.getMaximumPoolSize()));
+            });
+            replicaPools.forEach((tenantId, replicaPool) -> {
+                HikariPoolMXBean poolMXBean = replicaPool.dataSource.getHikariPoolMXBean();
+                info.put(tenantId + ":replica", String.format("Pool: %s, Healthy: %s, Lag: %ds, Active: %d, Idle: %d",
+                        replicaPool.dataSource.getPoolName(),
+                        replicaPool.healthy,
+                        replicaPool.lagSeconds,
+                        poolMXBean != null ? poolMXBean.getActiveConnections() : 0,
+                        poolMXBean != null ? poolMXBean.getIdleConnections() : 0));
             });
+            HikariDataSource sharedDataSource = sharedSchemaDataSource;
+            HikariPoolMXBean sharedMXBean = sharedDataSource != null ? sharedDataSource.getHikariPoolMXBean() : null;
+            schemaTenants.forEach((tenantId, schema) -> info.put(tenantId, String.format(
+                    "Pool: shared-schema-pool, Mode: SCHEMA, Schema: %s, Active: %d, Idle: %d",
+                    schema,
+                    sharedMXBean != null ? sharedMXBean.getActiveConnections() : 0,
+                    sharedMXBean != null ? sharedMXBean.getIdleConnections() : 0)));
             return info;
         }
+
+        /**
+         * 테넌트별 풀 상태 조회
+         */
+        public Map<String, PoolState> getPoolStates() {
+            Map<String, PoolState> states = new HashMap<>();
+            tenantPools.forEach((tenantId, tenantPool) -> states.put(tenantId, tenantPool.state));
+            return states;
+        }
+    }
+
+    /**
+     * 테넌트 풀 상태
+     */
+    public enum PoolState {
+        NOT_STARTED, // 등록만 되고 아직 커넥션 요청이 없음
+        ACTIVE,
+        HIBERNATED // 유휴로 인해 커넥션 0개로 축소됨
+    }
+
+    /**
+     * 테넌트별 풀과 사용 상태
+     */
+    private static class TenantPool {
+        private final HikariDataSource dataSource;
+        private final int configuredMinimumIdle;
+        private final int configuredMaximumPoolSize;
+        private volatile long lastAccessTime = System.currentTimeMillis();
+        private volatile PoolState state = PoolState.NOT_STARTED;
+        // 휴면 재개 후 워밍업 중 (최소 유휴가 warm-up-connections 로 제한됨)
+        private volatile boolean warmingUp;
+
+        private TenantPool(HikariDataSource dataSource, int configuredMinimumIdle, int configuredMaximumPoolSize) {
+            this.dataSource = dataSource;
+            this.configuredMinimumIdle = configuredMinimumIdle;
+            this.configuredMaximumPoolSize = configuredMaximumPoolSize;
+        }
+    }
+
+    /**
+     * 테넌트 읽기 전용 복제본 풀과 상태
+     */
+    private static class ReplicaPool {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile long lagSeconds;
+
+        private ReplicaPool(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
     }
 
     /**
      * 테넌트 컨텍스트 관리
      */
     public static class TenantContext {
+        public static final String DEFAULT_TENANT = "integrated";
+
         private static final ThreadLocal<String> TENANT_CONTEXT = new ThreadLocal<>();
 
         public static void setCurrentTenant(String tenantId) {
@@ -239,8 +855,57 @@ public class DynamicDataSourceConfiguration {
             return TENANT_CONTEXT.get();
         }
 
+        /**
+         * 현재 테넌트 조회 (미설정 시 기본 테넌트)
+         */
+        public static String getCurrentTenantOrDefault() {
+            String tenantId = TENANT_CONTEXT.get();
+            return tenantId != null ? tenantId : DEFAULT_TENANT;
+        }
+
         public static void clear() {
             TENANT_CONTEXT.remove();
         }
+
+        /**
+         * 현재 테넌트를 캡처해 다른 스레드에서 실행될 작업에 전파
+         * - 실행 후 작업 스레드의 기존 컨텍스트 복원 (풀 스레드 재사용 시 누수 방지)
+         */
+        public static Runnable wrap(Runnable task) {
+            String capturedTenant = TENANT_CONTEXT.get();
+            return () -> {
+                String previousTenant = TENANT_CONTEXT.get();
+                apply(capturedTenant);
+                try {
+                    task.run();
+                } finally {
+                    apply(previousTenant);
+                }
+            };
+        }
+
+        /**
+         * CompletableFuture.supplyAsync 등 Supplier 기반 파이프라인용
+         */
+        public static <T> Supplier<T> wrap(Supplier<T> supplier) {
+            String capturedTenant = TENANT_CONTEXT.get();
+            return () -> {
+                String previousTenant = TENANT_CONTEXT.get();
+                apply(capturedTenant);
+                try {
+                    return supplier.get();
+                } finally {
+                    apply(previousTenant);
+                }
+            };
+        }
+
+        private static void apply(String tenantId) {
+            if (tenantId != null) {
+                TENANT_CONTEXT.set(tenantId);
+            } else {
+                TENANT_CONTEXT.remove();
+            }
+        }
     }
 }
@@ -2,6 +2,8 @@ package cms.config;
 
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -31,8 +33,9 @@ public class PerformanceMonitoringConfig {
      * 데이터베이스 성능 모니터링
      */
     @Bean
-    public HealthIndicator databaseHealthIndicator(DataSource dataSource) {
-        return new DatabaseHealthIndicator(dataSource);
+    public HealthIndicator databaseHealthIndicator(DataSource dataSource,
+            ObjectProvider<TenantCircuitBreaker> circuitBreaker) {
+        return new DatabaseHealthIndicator(dataSource, circuitBreaker.getIfAvailable());
     }
 
     /**
@@ -108,16 +111,36 @@ public class PerformanceMonitoringConfig {
 
     /**
      * 데이터베이스 헬스 체크
+     * - 테넌트별 서킷 브레이커 상태를 circuitBreakers 상세로 노출 (기본 테넌트 서킷 OPEN 이면 DOWN)
      */
     public static class DatabaseHealthIndicator implements HealthIndicator {
         private final JdbcTemplate jdbcTemplate;
+        private final TenantCircuitBreaker circuitBreaker;
 
         public DatabaseHealthIndicator(DataSource dataSource) {
+            this(dataSource, null);
+        }
+
+        public DatabaseHealthIndicator(DataSource dataSource, TenantCircuitBreaker circuitBreaker) {
             this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.circuitBreaker = circuitBreaker;
         }
 
         @Override
         public Health health() {
+            Health health = checkDatabase();
+            if (circuitBreaker == null) {
+                return health;
+            }
+            boolean defaultOpen = circuitBreaker.getState(DynamicDataSourceConfiguration.TenantContext.DEFAULT_TENANT)
+                    == TenantCircuitBreaker.State.OPEN;
+            return Health.status(defaultOpen ? Status.DOWN : health.getStatus())
+                    .withDetails(health.getDetails())
+                    .withDetail("circuitBreakers", circuitBreaker.getStates())
+                    .build();
+        }
+
+        private Health checkDatabase() {
             try {
                 // Connection Pool 상태 체크
                 long startTime = System.currentTimeMillis();
@@ -0,0 +1,64 @@
+package cms.config;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * 요청 단위 DB 시간 집계용 Hibernate 세션 이벤트 리스너
+ * - 커넥션 획득, 문장 준비(지연 커넥션의 실제 획득 포함), 쿼리/배치 실행 시간을 현재 스레드의 요청 타이밍에 누적
+ * - hibernate.session.events.auto 로 세션마다 생성됨 (세션은 단일 스레드에서 사용)
+ */
+public class RequestDbTimeListener extends BaseSessionEventListener {
+    private static final long serialVersionUID = 1L;
+
+    private long connectionAcquisitionStart = -1;
+    private long prepareStart = -1;
+    private long statementStart = -1;
+    private long batchStart = -1;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionAcquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        connectionAcquisitionStart = record(connectionAcquisitionStart);
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        prepareStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        prepareStart = record(prepareStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statementStart = record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        batchStart = record(batchStart);
+    }
+
+    private static long record(long start) {
+        if (start >= 0) {
+            TenantRequestMetricsInterceptor.addDbTime(System.nanoTime() - start);
+        }
+        return -1;
+    }
+}
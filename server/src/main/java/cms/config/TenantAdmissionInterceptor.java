@@ -0,0 +1,93 @@
+package cms.config;
+
+import cms.common.dto.ApiResponseSchema;
+import cms.common.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 테넌트별 요청 허용 제어 인터셉터 (TenantInterceptor 다음에 실행)
+ * - 동시 처리 한도 초과: 503 + Retry-After, 속도 한도 초과: 429 + Retry-After
+ * - 비동기 처리로 요청 스레드를 반납하면 동시 처리 슬롯도 반납
+ */
+@Component
+public class TenantAdmissionInterceptor implements AsyncHandlerInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(TenantAdmissionInterceptor.class);
+
+    private static final String PERMIT_ATTRIBUTE = TenantAdmissionInterceptor.class.getName() + ".PERMIT";
+
+    private final TenantAdmissionLimiter admissionLimiter;
+    private final ObjectMapper objectMapper;
+
+    public TenantAdmissionInterceptor(TenantAdmissionLimiter admissionLimiter, ObjectMapper objectMapper) {
+        this.admissionLimiter = admissionLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!admissionLimiter.isEnabled() || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+
+        String tenantId = DynamicDataSourceConfiguration.TenantContext.getCurrentTenantOrDefault();
+        TenantAdmissionLimiter.TenantLimiter limiter = admissionLimiter.limiter(tenantId);
+        TenantAdmissionLimiter.Decision decision = limiter.tryAcquire();
+        if (decision == TenantAdmissionLimiter.Decision.ACCEPTED) {
+            request.setAttribute(PERMIT_ATTRIBUTE, limiter);
+            return true;
+        }
+
+        admissionLimiter.recordRejection(tenantId, decision);
+        logger.debug("Rejected request for tenant {} ({}): {}", tenantId, decision, request.getRequestURI());
+        if (decision == TenantAdmissionLimiter.Decision.RATE_LIMITED) {
+            reject(response, ErrorCode.TOO_MANY_REQUESTS,
+                    Math.max(1, limiter.secondsUntilToken()));
+        } else {
+            reject(response, ErrorCode.SERVICE_UNAVAILABLE, admissionLimiter.getRetryAfterSeconds());
+        }
+        return false;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        release(request);
+    }
+
+    private void release(HttpServletRequest request) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            ((TenantAdmissionLimiter.TenantLimiter) permit).release();
+        }
+    }
+
+    private void reject(HttpServletResponse response, ErrorCode errorCode, int retryAfterSeconds)
+            throws IOException {
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(
+                ApiResponseSchema.error(errorCode.getDefaultMessage(), errorCode.getCode())));
+    }
+}
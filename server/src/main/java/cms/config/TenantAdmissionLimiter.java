@@ -0,0 +1,242 @@
+package cms.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테넌트별 요청 허용 제어
+ * - 동시 처리 수 제한(bulkhead) + 토큰 버킷 속도 제한
+ * - 한도 초과 요청은 대기하지 않고 즉시 거부 (한 테넌트의 폭주가 다른 테넌트의 작업 스레드를 점유하지 않도록)
+ * - 한도는 app.multi-tenant.admission 설정값으로 시작하며 테넌트 관리 API 로 런타임 변경 가능
+ */
+@Component
+@EnableConfigurationProperties(TenantAdmissionLimiter.AdmissionProperties.class)
+public class TenantAdmissionLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(TenantAdmissionLimiter.class);
+
+    public enum Decision {
+        ACCEPTED, RATE_LIMITED, CONCURRENCY_LIMITED
+    }
+
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TenantLimiter> limiters = new ConcurrentHashMap<>();
+
+    public TenantAdmissionLimiter(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public int getRetryAfterSeconds() {
+        return properties.getRetryAfterSeconds();
+    }
+
+    public TenantLimiter limiter(String tenantId) {
+        TenantLimiter limiter = limiters.get(tenantId);
+        return limiter != null ? limiter : limiters.computeIfAbsent(tenantId, this::createLimiter);
+    }
+
+    /**
+     * 테넌트 한도 변경 (null 항목은 기존 값 유지)
+     */
+    public LimitSpec updateLimits(String tenantId, LimitSpec update) {
+        TenantLimiter limiter = limiter(tenantId);
+        if (update.getMaxConcurrent() != null) {
+            limiter.maxConcurrent = update.getMaxConcurrent();
+        }
+        if (update.getRatePerSecond() != null || update.getBurst() != null) {
+            limiter.bucket.reconfigure(
+                    update.getRatePerSecond() != null ? update.getRatePerSecond() : limiter.bucket.ratePerSecond,
+                    update.getBurst() != null ? update.getBurst() : limiter.bucket.capacity);
+        }
+        logger.info("Updated admission limits for tenant {}: {}", tenantId, limiter.currentLimits());
+        return limiter.currentLimits();
+    }
+
+    public Map<String, Object> getStatus(String tenantId) {
+        TenantLimiter limiter = limiter(tenantId);
+        LimitSpec limits = limiter.currentLimits();
+        Map<String, Object> status = new HashMap<>();
+        status.put("maxConcurrent", limits.getMaxConcurrent());
+        status.put("ratePerSecond", limits.getRatePerSecond());
+        status.put("burst", limits.getBurst());
+        status.put("inFlight", limiter.inFlight.get());
+        return status;
+    }
+
+    void recordRejection(String tenantId, Decision decision) {
+        meterRegistry.counter("tenant.admission.rejected",
+                "tenant", tenantId,
+                "reason", decision == Decision.RATE_LIMITED ? "rate" : "concurrency").increment();
+    }
+
+    private TenantLimiter createLimiter(String tenantId) {
+        LimitSpec spec = properties.resolve(tenantId);
+        TenantLimiter limiter = new TenantLimiter(spec.getMaxConcurrent(), spec.getRatePerSecond(), spec.getBurst());
+        Gauge.builder("tenant.admission.in.flight", limiter.inFlight, AtomicInteger::get)
+                .description("Requests currently admitted per tenant")
+                .tag("tenant", tenantId)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    /**
+     * 테넌트 단위 bulkhead + 토큰 버킷
+     */
+    public static class TenantLimiter {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final TokenBucket bucket;
+        private volatile int maxConcurrent;
+
+        TenantLimiter(int maxConcurrent, double ratePerSecond, int burst) {
+            this.maxConcurrent = maxConcurrent;
+            this.bucket = new TokenBucket(ratePerSecond, burst);
+        }
+
+        /**
+         * 허용 시 반드시 release() 호출
+         */
+        public Decision tryAcquire() {
+            int current;
+            do {
+                current = inFlight.get();
+                if (current >= maxConcurrent) {
+                    return Decision.CONCURRENCY_LIMITED;
+                }
+            } while (!inFlight.compareAndSet(current, current + 1));
+
+            if (!bucket.tryConsume()) {
+                inFlight.decrementAndGet();
+                return Decision.RATE_LIMITED;
+            }
+            return Decision.ACCEPTED;
+        }
+
+        public void release() {
+            inFlight.decrementAndGet();
+        }
+
+        /**
+         * 다음 토큰까지 남은 시간(초, 올림)
+         */
+        public int secondsUntilToken() {
+            return bucket.secondsUntilToken();
+        }
+
+        LimitSpec currentLimits() {
+            LimitSpec spec = new LimitSpec();
+            spec.setMaxConcurrent(maxConcurrent);
+            spec.setRatePerSecond(bucket.ratePerSecond);
+            spec.setBurst(bucket.capacity);
+            return spec;
+        }
+    }
+
+    /**
+     * 토큰 버킷 - 테넌트 단위 잠금이므로 테넌트 간 경합 없음
+     */
+    static final class TokenBucket {
+        private double ratePerSecond;
+        private int capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(double ratePerSecond, int capacity) {
+            this.ratePerSecond = ratePerSecond;
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized boolean tryConsume() {
+            if (ratePerSecond <= 0) {
+                return true; // 0 이하 = 속도 제한 없음
+            }
+            refill();
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized int secondsUntilToken() {
+            if (ratePerSecond <= 0) {
+                return 0;
+            }
+            refill();
+            return tokens >= 1 ? 0 : (int) Math.ceil((1 - tokens) / ratePerSecond);
+        }
+
+        synchronized void reconfigure(double ratePerSecond, int capacity) {
+            refill();
+            this.ratePerSecond = ratePerSecond;
+            this.capacity = capacity;
+            this.tokens = Math.min(tokens, capacity);
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * ratePerSecond);
+            lastRefillNanos = now;
+        }
+    }
+
+    /**
+     * 요청 허용 제어 설정 (app.multi-tenant.admission)
+     * - max-concurrent, rate-per-second, burst 는 전체 기본값이며 tenants.<id> 로 테넌트별 재정의
+     */
+    @Getter
+    @Setter
+    @ConfigurationProperties(prefix = "app.multi-tenant.admission")
+    public static class AdmissionProperties {
+        private boolean enabled = true;
+        private int maxConcurrent = 50;
+        private double ratePerSecond = 100;
+        private int burst = 200;
+        private int retryAfterSeconds = 1;
+        private Map<String, LimitSpec> tenants = new HashMap<>();
+
+        public LimitSpec resolve(String tenantId) {
+            LimitSpec override = tenants.get(tenantId);
+            LimitSpec resolved = new LimitSpec();
+            resolved.setMaxConcurrent(override != null && override.getMaxConcurrent() != null
+                    ? override.getMaxConcurrent()
+                    : maxConcurrent);
+            resolved.setRatePerSecond(override != null && override.getRatePerSecond() != null
+                    ? override.getRatePerSecond()
+                    : ratePerSecond);
+            resolved.setBurst(override != null && override.getBurst() != null ? override.getBurst() : burst);
+            return resolved;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class LimitSpec {
+        private Integer maxConcurrent;
+        private Double ratePerSecond;
+        private Integer burst;
+
+        @Override
+        public String toString() {
+            return "maxConcurrent=" + maxConcurrent + ", ratePerSecond=" + ratePerSecond + ", burst=" + burst;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package cms.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테넌트 데이터소스 서킷 브레이커
+ * - 커넥션 획득 연속 실패가 failure-threshold 에 도달하면 OPEN: open-duration 동안 커넥션 요청 즉시 실패
+ * - DB 에 닿을 수 없는 오류(SQLState 08xxx, 접속 거부, 살아 있는 커넥션이 없는 풀의 타임아웃)만 실패로 셈
+ *   (정상 DB 의 풀 포화로 인한 대기 타임아웃은 과부하이므로 차단하지 않음)
+ * - open-duration 경과 후 HALF_OPEN: 한 건만 시험 요청을 허용하고 성공 시 CLOSED, 실패 시 다시 OPEN
+ * - 상태는 DatabaseHealthIndicator 와 테넌트 상태 API 에 노출
+ */
+@Component
+public class TenantCircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(TenantCircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.multi-tenant.circuit-breaker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.multi-tenant.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${app.multi-tenant.circuit-breaker.open-duration:30000}")
+    private long openDurationMillis;
+
+    public TenantCircuitBreaker(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 커넥션 획득
+     *
+     * @param pool 커넥션을 얻는 풀 (타임아웃 시 살아 있는 커넥션 수 확인용, null 가능)
+     */
+    public Connection acquire(String tenantId, ConnectionSupplier supplier, DataSource pool) throws SQLException {
+        acquirePermission(tenantId);
+        boolean recorded = false;
+        try {
+            Connection connection = supplier.get();
+            onSuccess(tenantId);
+            recorded = true;
+            return connection;
+        } catch (SQLException e) {
+            if (isUnreachable(e, pool)) {
+                onFailure(tenantId, e);
+                recorded = true;
+            }
+            throw e;
+        } finally {
+            // 실패로 세지 않은 결과(풀 포화, Error 등)는 HALF_OPEN 시험 요청만 반납해 다음 요청이 시험하도록 함
+            if (!recorded) {
+                releaseTrial(tenantId);
+            }
+        }
+    }
+
+    /**
+     * DB 에 닿을 수 없는 오류인지 (원인 체인의 SQLState 08xxx/접속 오류, 또는 살아 있는 커넥션이 없는 풀의 타임아웃)
+     */
+    static boolean isUnreachable(SQLException e, DataSource pool) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLNonTransientConnectionException || cause instanceof ConnectException
+                    || cause instanceof NoRouteToHostException || cause instanceof UnknownHostException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                String sqlState = ((SQLException) cause).getSQLState();
+                if (sqlState != null && sqlState.startsWith("08")) {
+                    return true;
+                }
+            }
+        }
+        if (e instanceof SQLTransientConnectionException && pool instanceof HikariDataSource) {
+            HikariPoolMXBean poolMXBean = ((HikariDataSource) pool).getHikariPoolMXBean();
+            return poolMXBean != null && poolMXBean.getTotalConnections() == 0;
+        }
+        return false;
+    }
+
+    private void releaseTrial(String tenantId) {
+        if (!enabled) {
+            return;
+        }
+        Breaker breaker = breakers.get(tenantId);
+        if (breaker != null && breaker.state == State.HALF_OPEN) {
+            synchronized (breaker) {
+                breaker.trialInProgress = false;
+            }
+        }
+    }
+
+    /**
+     * 커넥션 획득 허용 여부 확인 (OPEN 이면 즉시 예외)
+     */
+    public void acquirePermission(String tenantId) throws CircuitOpenException {
+        if (!enabled) {
+            return;
+        }
+        Breaker breaker = breaker(tenantId);
+        if (breaker.state == State.CLOSED) {
+            return;
+        }
+        synchronized (breaker) {
+            long now = System.currentTimeMillis();
+            if (breaker.state == State.OPEN && now - breaker.openedAt >= openDurationMillis) {
+                breaker.state = State.HALF_OPEN;
+                breaker.trialInProgress = false;
+                logger.info("Circuit for tenant {} is half-open, allowing a trial connection", tenantId);
+            }
+            if (breaker.state == State.HALF_OPEN && !breaker.trialInProgress) {
+                breaker.trialInProgress = true;
+                return;
+            }
+            if (breaker.state != State.CLOSED) {
+                meterRegistry.counter("tenant.datasource.circuit.rejected", "tenant", tenantId).increment();
+                long remaining = Math.max(0, openDurationMillis - (now - breaker.openedAt));
+                throw new CircuitOpenException(tenantId, (int) Math.max(1, (remaining + 999) / 1000));
+            }
+        }
+    }
+
+    public void onSuccess(String tenantId) {
+        if (!enabled) {
+            return;
+        }
+        Breaker breaker = breaker(tenantId);
+        breaker.consecutiveFailures.set(0);
+        if (breaker.state != State.CLOSED) {
+            synchronized (breaker) {
+                if (breaker.state != State.CLOSED) {
+                    breaker.state = State.CLOSED;
+                    breaker.trialInProgress = false;
+                    logger.info("Circuit for tenant {} closed", tenantId);
+                }
+            }
+        }
+    }
+
+    public void onFailure(String tenantId, Exception cause) {
+        if (!enabled) {
+            return;
+        }
+        Breaker breaker = breaker(tenantId);
+        int failures = breaker.consecutiveFailures.incrementAndGet();
+        if (breaker.state == State.HALF_OPEN || (breaker.state == State.CLOSED && failures >= failureThreshold)) {
+            synchronized (breaker) {
+                if (breaker.state != State.OPEN) {
+                    breaker.state = State.OPEN;
+                    breaker.openedAt = System.currentTimeMillis();
+                    breaker.trialInProgress = false;
+                    logger.warn("Circuit for tenant {} opened after {} consecutive connection failures: {}",
+                            tenantId, failures, cause.getMessage());
+                }
+            }
+        }
+    }
+
+    public State getState(String tenantId) {
+        Breaker breaker = breakers.get(tenantId);
+        return breaker != null ? breaker.state : State.CLOSED;
+    }
+
+    public Map<String, State> getStates() {
+        Map<String, State> states = new HashMap<>();
+        breakers.forEach((tenantId, breaker) -> states.put(tenantId, breaker.state));
+        return states;
+    }
+
+    private Breaker breaker(String tenantId) {
+        Breaker breaker = breakers.get(tenantId);
+        return breaker != null ? breaker : breakers.computeIfAbsent(tenantId, id -> {
+            Breaker created = new Breaker();
+            Gauge.builder("tenant.datasource.circuit.state", created, b -> b.state.ordinal())
+                    .description("Circuit breaker state per tenant (0=closed, 1=open, 2=half-open)")
+                    .tag("tenant", id)
+                    .register(meterRegistry);
+            return created;
+        });
+    }
+
+    @FunctionalInterface
+    public interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    private static final class Breaker {
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile State state = State.CLOSED;
+        private volatile long openedAt;
+        private boolean trialInProgress;
+    }
+
+    /**
+     * 서킷 OPEN 상태의 커넥션 요청 거부
+     */
+    public static class CircuitOpenException extends SQLTransientConnectionException {
+        private static final long serialVersionUID = 1L;
+
+        private final int retryAfterSeconds;
+
+        public CircuitOpenException(String tenantId, int retryAfterSeconds) {
+            super("Database circuit is open for tenant: " + tenantId);
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public int getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package cms.config;
+
+import cms.config.DynamicDataSourceConfiguration.DynamicDataSourceManager;
+import cms.config.DynamicDataSourceConfiguration.TenantContext;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테넌트 레지스트리
+ * - 설정(app.multi-tenant.tenants, app.frontend.domains) + DB(tenant_registry) + 런타임 등록 테넌트를 병합
+ * - 라우팅 데이터소스에 풀이 있는 테넌트(환경변수, 스키마 격리 설정)도 포함해 테넌트별 작업에서 누락되지 않도록 함
+ * - 주기적으로 다시 로드하여 불변 스냅샷으로 교체 (조회 측은 잠금 없이 volatile 읽기만 수행)
+ */
+@Component
+public class TenantRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(TenantRegistry.class);
+
+    private static final String SELECT_TENANTS = "SELECT tenant_id, hosts FROM tenant_registry WHERE enabled = 1";
+
+    private final Environment environment;
+    private final JdbcTemplate jdbcTemplate;
+    private final DynamicDataSourceManager dataSourceManager;
+    private final Set<String> runtimeTenants = ConcurrentHashMap.newKeySet();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // 마지막으로 조회에 성공한 tenant_registry 내용 (조회 실패 시 유지)
+    private Set<String> databaseTenants = Collections.emptySet();
+    private Map<String, String> databaseHosts = Collections.emptyMap();
+
+    public TenantRegistry(Environment environment, DataSource dataSource, DynamicDataSourceManager dataSourceManager) {
+        this.environment = environment;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.dataSourceManager = dataSourceManager;
+    }
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 레지스트리 다시 로드 (스케줄 또는 관리 API 에서 호출)
+     */
+    @Scheduled(initialDelayString = "${app.multi-tenant.tenant-resolution.reload-interval:60000}",
+            fixedDelayString = "${app.multi-tenant.tenant-resolution.reload-interval:60000}")
+    public synchronized void reload() {
+        Set<String> tenants = new LinkedHashSet<>();
+        Map<String, String> hosts = new HashMap<>();
+
+        loadFromConfig(tenants, hosts);
+        loadFromDatabase();
+        tenants.addAll(databaseTenants);
+        hosts.putAll(databaseHosts);
+        tenants.addAll(dataSourceManager.getTenantIds());
+        tenants.addAll(runtimeTenants);
+
+        Snapshot previous = snapshot;
+        snapshot = new Snapshot(tenants, hosts);
+        if (!previous.getTenantIds().equals(snapshot.getTenantIds())) {
+            logger.info("Tenant registry loaded: tenants={}, hosts={}", tenants, hosts.keySet());
+        }
+    }
+
+    /**
+     * 런타임 테넌트 등록 (테넌트 관리 API)
+     */
+    public void register(String tenantId) {
+        runtimeTenants.add(tenantId);
+        reload();
+    }
+
+    public void unregister(String tenantId) {
+        runtimeTenants.remove(tenantId);
+        reload();
+    }
+
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    private void loadFromConfig(Set<String> tenants, Map<String, String> hosts) {
+        Binder binder = Binder.get(environment);
+
+        Map<String, TenantDefinition> definitions = binder
+                .bind("app.multi-tenant.tenants", Bindable.mapOf(String.class, TenantDefinition.class))
+                .orElse(Collections.emptyMap());
+        definitions.forEach((tenantId, definition) -> {
+            tenants.add(tenantId);
+            if (definition.getHosts() != null) {
+                definition.getHosts().forEach(host -> putHost(hosts, host, tenantId));
+            }
+        });
+
+        Map<String, FrontendDomain> domains = binder
+                .bind("app.frontend.domains", Bindable.mapOf(String.class, FrontendDomain.class))
+                .orElse(Collections.emptyMap());
+        domains.values().forEach(domain -> {
+            if (domain.getTenant() != null) {
+                tenants.add(domain.getTenant());
+                putHost(hosts, domain.getUrl(), domain.getTenant());
+            }
+        });
+    }
+
+    /**
+     * tenant_registry 조회 (통합 CMS DB 고정)
+     * - 조회에 성공했을 때만 DB 등록 테넌트/호스트 교체, 실패하면 이전 내용을 유지해 일시 장애로 호스트 매핑이 사라지지 않도록 함
+     */
+    private void loadFromDatabase() {
+        Set<String> tenants = new LinkedHashSet<>();
+        Map<String, String> hosts = new HashMap<>();
+        String previousTenant = TenantContext.getCurrentTenant();
+        // 관리 API 요청 스레드에서 호출되면 요청 테넌트 DB 로 라우팅되므로 기본 테넌트로 전환
+        TenantContext.setCurrentTenant(TenantContext.DEFAULT_TENANT);
+        try {
+            jdbcTemplate.query(SELECT_TENANTS, rs -> {
+                String tenantId = rs.getString("tenant_id");
+                tenants.add(tenantId);
+                String hostList = rs.getString("hosts");
+                if (hostList != null) {
+                    for (String host : hostList.split(",")) {
+                        putHost(hosts, host, tenantId);
+                    }
+                }
+            });
+            databaseTenants = tenants;
+            databaseHosts = hosts;
+        } catch (Exception e) {
+            logger.warn("Failed to load tenant registry from database, keeping previously loaded entries: {}",
+                    e.getMessage());
+        } finally {
+            if (previousTenant != null) {
+                TenantContext.setCurrentTenant(previousTenant);
+            } else {
+                TenantContext.clear();
+            }
+        }
+    }
+
+    /**
+     * URL 또는 호스트 문자열에서 호스트명만 추출해 소문자로 등록
+     */
+    private static void putHost(Map<String, String> hosts, String value, String tenantId) {
+        if (value == null || value.trim().isEmpty()) {
+            return;
+        }
+        String host = value.trim().toLowerCase(Locale.ROOT);
+        int schemeEnd = host.indexOf("://");
+        if (schemeEnd >= 0) {
+            host = host.substring(schemeEnd + 3);
+        }
+        int end = host.length();
+        for (int i = 0; i < host.length(); i++) {
+            char c = host.charAt(i);
+            if (c == ':' || c == '/') {
+                end = i;
+                break;
+            }
+        }
+        if (end > 0) {
+            hosts.put(host.substring(0, end), tenantId);
+        }
+    }
+
+    /**
+     * 조회용 불변 스냅샷 - 문자열 구간 단위 조회로 요청당 할당 없이 매칭
+     */
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(Collections.emptySet(), Collections.emptyMap());
+
+        @Getter
+        private final Set<String> tenantIds;
+        private final RegionTable tenants;
+        private final RegionTable hosts;
+
+        Snapshot(Set<String> tenantIds, Map<String, String> hostToTenant) {
+            this.tenantIds = Collections.unmodifiableSet(new LinkedHashSet<>(tenantIds));
+            Map<String, String> identity = new HashMap<>();
+            tenantIds.forEach(tenantId -> identity.put(tenantId, tenantId));
+            this.tenants = new RegionTable(identity, false);
+            // 호스트는 대소문자 구분 없음 (키는 putHost 에서 소문자로 등록)
+            this.hosts = new RegionTable(hostToTenant, true);
+        }
+
+        /**
+         * source[start, end) 가 등록된 테넌트 ID 면 해당 ID(등록된 인스턴스) 반환
+         */
+        public String tenant(String source, int start, int end) {
+            return tenants.get(source, start, end);
+        }
+
+        /**
+         * source[start, end) 호스트에 매핑된 테넌트 반환
+         */
+        public String tenantForHost(String source, int start, int end) {
+            return hosts.get(source, start, end);
+        }
+
+        public Map<String, String> hostMappings() {
+            return hosts.asMap();
+        }
+    }
+
+    /**
+     * 문자열 부분 구간을 키로 조회하는 개방 주소법 해시 테이블 (키 생성을 위한 substring 불필요)
+     * - ignoreCase 면 ASCII 대소문자를 무시하고 조회 (키는 소문자로 등록되어 있어야 함)
+     */
+    static final class RegionTable {
+        private final String[] keys;
+        private final String[] values;
+        private final int mask;
+        private final boolean ignoreCase;
+
+        RegionTable(Map<String, String> entries, boolean ignoreCase) {
+            this.ignoreCase = ignoreCase;
+            int capacity = Integer.highestOneBit(Math.max(4, entries.size() * 4) - 1) << 1;
+            this.keys = new String[capacity];
+            this.values = new String[capacity];
+            this.mask = capacity - 1;
+            entries.forEach((key, value) -> {
+                int index = hash(key, 0, key.length(), ignoreCase) & mask;
+                while (keys[index] != null && !keys[index].equals(key)) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = value;
+            });
+        }
+
+        String get(String source, int start, int end) {
+            int length = end - start;
+            if (source == null || length <= 0) {
+                return null;
+            }
+            int index = hash(source, start, end, ignoreCase) & mask;
+            String key;
+            while ((key = keys[index]) != null) {
+                if (key.length() == length && key.regionMatches(ignoreCase, 0, source, start, length)) {
+                    return values[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        Map<String, String> asMap() {
+            Map<String, String> map = new HashMap<>();
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    map.put(keys[i], values[i]);
+                }
+            }
+            return map;
+        }
+
+        private static int hash(String source, int start, int end, boolean ignoreCase) {
+            int h = 0;
+            for (int i = start; i < end; i++) {
+                char c = source.charAt(i);
+                if (ignoreCase && c >= 'A' && c <= 'Z') {
+                    c = (char) (c + ('a' - 'A'));
+                }
+                h = 31 * h + c;
+            }
+            return h ^ (h >>> 16);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class TenantDefinition {
+        private String description;
+        private List<String> hosts;
+    }
+
+    @Getter
+    @Setter
+    public static class FrontendDomain {
+        private String url;
+        private String tenant;
+    }
+}
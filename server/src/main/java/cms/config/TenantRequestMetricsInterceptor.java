@@ -0,0 +1,168 @@
+package cms.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테넌트별 요청 지연/처리량 메트릭
+ * - tenant.http.requests: 요청 처리 시간 (tenant, controller, method, outcome 태그, 백분위수는 management.metrics.distribution 설정)
+ * - tenant.http.requests.db: 요청당 DB 시간 (RequestDbTimeListener 가 누적)
+ * - tenant.http.requests.active: 테넌트별 처리 중 요청 수
+ * - 타이머는 (핸들러 메서드, 테넌트) 단위로 캐시하여 요청 경로에서 Meter 조회/생성 비용 없음
+ */
+@Component
+public class TenantRequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final ThreadLocal<RequestTiming> TIMING = ThreadLocal.withInitial(RequestTiming::new);
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Map<String, RequestMeters>> meters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> activeRequests = new ConcurrentHashMap<>();
+
+    public TenantRequestMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 현재 스레드에서 처리 중인 요청에 DB 시간 누적 (요청 밖에서 호출되면 무시)
+     */
+    static void addDbTime(long nanos) {
+        RequestTiming timing = TIMING.get();
+        if (timing.active) {
+            timing.dbNanos += nanos;
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod) || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        String tenantId = DynamicDataSourceConfiguration.TenantContext.getCurrentTenantOrDefault();
+        RequestTiming timing = TIMING.get();
+        timing.active = true;
+        timing.tenantId = tenantId;
+        timing.dbNanos = 0;
+        timing.startNanos = System.nanoTime();
+        active(tenantId).incrementAndGet();
+        return true;
+    }
+
+    /**
+     * 비동기 처리로 전환된 요청은 완료 스레드가 달라 기록하지 않음
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        RequestTiming timing = TIMING.get();
+        if (timing.active) {
+            timing.active = false;
+            active(timing.tenantId).decrementAndGet();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        RequestTiming timing = TIMING.get();
+        if (!timing.active || !(handler instanceof HandlerMethod)) {
+            return;
+        }
+        long elapsed = System.nanoTime() - timing.startNanos;
+        timing.active = false;
+        active(timing.tenantId).decrementAndGet();
+
+        int status = response.getStatus();
+        if (ex != null && status < 400) {
+            status = 500;
+        }
+        RequestMeters requestMeters = meters((HandlerMethod) handler, timing.tenantId);
+        requestMeters.latency[Outcome.forStatus(status).ordinal()].record(elapsed, TimeUnit.NANOSECONDS);
+        requestMeters.dbTime.record(timing.dbNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private AtomicInteger active(String tenantId) {
+        AtomicInteger counter = activeRequests.get(tenantId);
+        if (counter != null) {
+            return counter;
+        }
+        return activeRequests.computeIfAbsent(tenantId, id -> {
+            AtomicInteger created = new AtomicInteger();
+            Gauge.builder("tenant.http.requests.active", created, AtomicInteger::get)
+                    .description("In-flight HTTP requests per tenant")
+                    .tag("tenant", id)
+                    .register(meterRegistry);
+            return created;
+        });
+    }
+
+    private RequestMeters meters(HandlerMethod handlerMethod, String tenantId) {
+        Map<String, RequestMeters> byTenant = meters.get(handlerMethod.getMethod());
+        if (byTenant == null) {
+            byTenant = meters.computeIfAbsent(handlerMethod.getMethod(), method -> new ConcurrentHashMap<>());
+        }
+        RequestMeters requestMeters = byTenant.get(tenantId);
+        if (requestMeters == null) {
+            requestMeters = byTenant.computeIfAbsent(tenantId, id -> createMeters(handlerMethod, id));
+        }
+        return requestMeters;
+    }
+
+    private RequestMeters createMeters(HandlerMethod handlerMethod, String tenantId) {
+        String controller = handlerMethod.getBeanType().getSimpleName();
+        String method = handlerMethod.getMethod().getName();
+
+        Timer[] latency = new Timer[OUTCOMES.length];
+        for (Outcome outcome : OUTCOMES) {
+            latency[outcome.ordinal()] = Timer.builder("tenant.http.requests")
+                    .description("HTTP request latency per tenant and handler")
+                    .tag("tenant", tenantId)
+                    .tag("controller", controller)
+                    .tag("method", method)
+                    .tag("outcome", outcome.name())
+                    .register(meterRegistry);
+        }
+        Timer dbTime = Timer.builder("tenant.http.requests.db")
+                .description("Database time (connection acquisition + statement execution) per request")
+                .tag("tenant", tenantId)
+                .tag("controller", controller)
+                .tag("method", method)
+                .register(meterRegistry);
+        return new RequestMeters(latency, dbTime);
+    }
+
+    private static final class RequestMeters {
+        private final Timer[] latency;
+        private final Timer dbTime;
+
+        private RequestMeters(Timer[] latency, Timer dbTime) {
+            this.latency = latency;
+            this.dbTime = dbTime;
+        }
+    }
+
+    /**
+     * 스레드별 재사용 요청 타이밍 (요청마다 객체 생성 없음)
+     */
+    private static final class RequestTiming {
+        private boolean active;
+        private String tenantId;
+        private long startNanos;
+        private long dbNanos;
+    }
+}
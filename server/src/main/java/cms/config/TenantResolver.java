@@ -0,0 +1,162 @@
+package cms.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청별 테넌트 식별기
+ * - 우선순위: 헤더 > URL 경로 > 호스트(등록 도메인, 서브도메인) > Origin/Referer > 기본 테넌트
+ * - TenantRegistry 스냅샷의 구간 조회만 사용하므로 정상 경로에서 문자열 분할/정규식/할당 없음
+ * - 식별 경로별 카운터(tenant.resolution{source=...}) 노출
+ */
+@Component
+public class TenantResolver {
+
+    /**
+     * 테넌트 ID 를 세그먼트로 포함할 수 있는 경로 접두사
+     * 예: /api/v1/arpina/*, /tenant/douzone/*, /cms/arpina/*
+     */
+    private static final String[] PATH_PREFIXES = { "/api/v1/", "/tenant/", "/cms/" };
+
+    public enum Source {
+        HEADER, PATH, HOST, SUBDOMAIN, ORIGIN, DEFAULT
+    }
+
+    private final TenantRegistry registry;
+    private final Map<Source, Counter> counters = new EnumMap<>(Source.class);
+
+    @Value("${app.multi-tenant.tenant-resolution.header-name:X-Tenant-ID}")
+    private String headerName;
+
+    @Value("${app.multi-tenant.tenant-resolution.default-tenant:integrated}")
+    private String defaultTenant;
+
+    public TenantResolver(TenantRegistry registry, MeterRegistry meterRegistry) {
+        this.registry = registry;
+        for (Source source : Source.values()) {
+            counters.put(source, Counter.builder("tenant.resolution")
+                    .description("Tenant resolution count by source")
+                    .tag("source", source.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        TenantRegistry.Snapshot snapshot = registry.current();
+
+        String tenantId = fromHeader(snapshot, request.getHeader(headerName));
+        if (tenantId != null) {
+            return count(Source.HEADER, tenantId);
+        }
+
+        tenantId = fromPath(snapshot, request.getRequestURI());
+        if (tenantId != null) {
+            return count(Source.PATH, tenantId);
+        }
+
+        String serverName = request.getServerName();
+        if (serverName != null) {
+            tenantId = snapshot.tenantForHost(serverName, 0, serverName.length());
+            if (tenantId != null) {
+                return count(Source.HOST, tenantId);
+            }
+            tenantId = fromSubdomain(snapshot, serverName);
+            if (tenantId != null) {
+                return count(Source.SUBDOMAIN, tenantId);
+            }
+        }
+
+        String origin = request.getHeader("Origin");
+        if (origin == null) {
+            origin = request.getHeader("Referer");
+        }
+        tenantId = fromOrigin(snapshot, origin);
+        if (tenantId != null) {
+            return count(Source.ORIGIN, tenantId);
+        }
+
+        return count(Source.DEFAULT, defaultTenant);
+    }
+
+    /**
+     * 식별 경로별 누적 건수
+     */
+    public Map<String, Long> getResolutionCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counters.forEach((source, counter) -> counts.put(source.name().toLowerCase(), (long) counter.count()));
+        return counts;
+    }
+
+    private String count(Source source, String tenantId) {
+        counters.get(source).increment();
+        return tenantId;
+    }
+
+    private static String fromHeader(TenantRegistry.Snapshot snapshot, String header) {
+        if (header == null) {
+            return null;
+        }
+        int start = 0;
+        int end = header.length();
+        while (start < end && header.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && header.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return snapshot.tenant(header, start, end);
+    }
+
+    private static String fromPath(TenantRegistry.Snapshot snapshot, String uri) {
+        if (uri == null) {
+            return null;
+        }
+        for (String prefix : PATH_PREFIXES) {
+            if (uri.startsWith(prefix)) {
+                int start = prefix.length();
+                int end = uri.indexOf('/', start);
+                return snapshot.tenant(uri, start, end < 0 ? uri.length() : end);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 서브도메인에서 테넌트 추출 (3단계 이상 호스트의 첫 레이블)
+     * 예: arpina.cms.example.com -> arpina
+     */
+    private static String fromSubdomain(TenantRegistry.Snapshot snapshot, String serverName) {
+        int firstDot = serverName.indexOf('.');
+        if (firstDot <= 0 || serverName.indexOf('.', firstDot + 1) < 0) {
+            return null;
+        }
+        return snapshot.tenant(serverName, 0, firstDot);
+    }
+
+    /**
+     * Origin/Referer 의 호스트가 등록된 프론트엔드 도메인이면 해당 테넌트
+     */
+    private static String fromOrigin(TenantRegistry.Snapshot snapshot, String origin) {
+        if (origin == null) {
+            return null;
+        }
+        int start = origin.indexOf("://");
+        start = start < 0 ? 0 : start + 3;
+        int end = start;
+        while (end < origin.length()) {
+            char c = origin.charAt(end);
+            if (c == ':' || c == '/') {
+                break;
+            }
+            end++;
+        }
+        return snapshot.tenantForHost(origin, start, end);
+    }
+}
@@ -6,7 +6,7 @@ import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
- * Web MVC 설정 - 테넌트 인터셉터 등록
+ * Web MVC 설정 - 테넌트 인터셉터, 테넌트별 요청 메트릭 및 요청 허용 제어 등록
  */
 @Configuration
 public class WebMvcConfiguration implements WebMvcConfigurer {
@@ -14,6 +14,12 @@ public class WebMvcConfiguration implements WebMvcConfigurer {
     @Autowired
     private TenantInterceptor tenantInterceptor;
 
+    @Autowired
+    private TenantAdmissionInterceptor tenantAdmissionInterceptor;
+
+    @Autowired
+    private TenantRequestMetricsInterceptor tenantRequestMetricsInterceptor;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(tenantInterceptor)
@@ -27,5 +33,31 @@ public class WebMvcConfiguration implements WebMvcConfigurer {
                         "/health", // 헬스체크
                         "/error" // 에러 페이지
                 );
+
+        // 테넌트별 지연/처리량 메트릭 (허용 제어로 거부된 요청도 기록되도록 허용 제어보다 먼저 등록)
+        registry.addInterceptor(tenantRequestMetricsInterceptor)
+                .addPathPatterns("/**")
+                .excludePathPatterns(
+                        "/actuator/**",
+                        "/swagger-ui/**",
+                        "/v3/api-docs/**",
+                        "/h2-console/**",
+                        "/public/**",
+                        "/health",
+                        "/error");
+
+        // 테넌트 식별 이후 실행 (과부하 중에도 테넌트 관리 API 로 한도 조정 가능하도록 제외)
+        registry.addInterceptor(tenantAdmissionInterceptor)
+                .addPathPatterns("/**")
+                .excludePathPatterns(
+                        "/actuator/**",
+                        "/swagger-ui/**",
+                        "/v3/api-docs/**",
+                        "/h2-console/**",
+                        "/public/**",
+                        "/health",
+                        "/error",
+                        "/api/v1/admin/tenants/**",
+                        "/api/v1/api/v1/admin/tenants/**"); // WebConfig 의 /api/v1 접두사가 추가된 경로
     }
 }
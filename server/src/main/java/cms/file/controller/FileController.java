@@ -1,25 +1,31 @@
 package cms.file.controller;
 
 import cms.common.dto.ApiResponseSchema;
+import cms.file.dto.ChunkedUploadInitRequest;
 import cms.file.dto.FileDto;
 import cms.file.entity.CmsFile;
+import cms.file.service.ChunkedUploadStore;
+import cms.file.service.FileContentSender;
+import cms.file.service.FileDerivativeGenerator;
 import cms.file.service.FileService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import javax.persistence.EntityNotFoundException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
 import java.io.IOException;
 
 @RestController
@@ -30,6 +36,9 @@ import java.io.IOException;
 public class FileController {
 
     private final FileService fileService;
+    private final FileContentSender fileContentSender;
+    private final ChunkedUploadStore chunkedUploadStore;
+    private final FileDerivativeGenerator derivativeGenerator;
 
     private FileDto convertToDto(CmsFile file) {
         FileDto dto = new FileDto();
@@ -138,6 +147,130 @@ public class FileController {
         }
     }
 
+    // 분할 업로드: 세션 생성 → 조각 PUT (offset, X-Chunk-SHA256) → complete
+    // 연결이 끊기면 세션 조회로 받은 크기를 확인하고 그 위치부터 다시 전송
+    @PostMapping("/private/upload-sessions")
+    public ResponseEntity<ApiResponseSchema<?>> createUploadSession(@RequestBody ChunkedUploadInitRequest initRequest) {
+        try {
+            return ResponseEntity.ok(ApiResponseSchema.success(
+                chunkedUploadStore.create(initRequest),
+                "Upload session created successfully"
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponseSchema.error(e.getMessage(), "FILE_UPLOAD_ERR"));
+        } catch (Exception e) {
+            log.error("Failed to create upload session for file: {}", initRequest.getFileName(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponseSchema.error(
+                    "Failed to create upload session: " + e.getMessage(),
+                    "INTERNAL_SERVER_ERR"
+                ));
+        }
+    }
+
+    @GetMapping("/private/upload-sessions/{uploadId}")
+    public ResponseEntity<ApiResponseSchema<?>> getUploadSession(@PathVariable String uploadId) {
+        try {
+            return ResponseEntity.ok(ApiResponseSchema.success(
+                chunkedUploadStore.status(uploadId),
+                "Upload session retrieved successfully"
+            ));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponseSchema.error(e.getMessage(), "UPLOAD_SESSION_NOT_FOUND"));
+        } catch (Exception e) {
+            log.error("Failed to get upload session: {}", uploadId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponseSchema.error(
+                    "Failed to get upload session: " + e.getMessage(),
+                    "INTERNAL_SERVER_ERR"
+                ));
+        }
+    }
+
+    @PutMapping(value = "/private/upload-sessions/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ApiResponseSchema<?>> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            @RequestHeader(value = "X-Chunk-SHA256", required = false) String chunkSha256,
+            HttpServletRequest request) {
+        try {
+            return ResponseEntity.ok(ApiResponseSchema.success(
+                chunkedUploadStore.append(uploadId, offset, request.getInputStream(), chunkSha256),
+                "Chunk uploaded successfully"
+            ));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponseSchema.error(e.getMessage(), "UPLOAD_SESSION_NOT_FOUND"));
+        } catch (IllegalStateException e) {
+            // offset 불일치 또는 동시 전송: 세션 조회로 받은 크기 확인 후 재전송
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponseSchema.error(e.getMessage(), "UPLOAD_OFFSET_MISMATCH"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponseSchema.error(e.getMessage(), "INVALID_CHUNK"));
+        } catch (Exception e) {
+            log.error("Failed to upload chunk for session: {}, offset: {}", uploadId, offset, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponseSchema.error(
+                    "Failed to upload chunk: " + e.getMessage(),
+                    "INTERNAL_SERVER_ERR"
+                ));
+        }
+    }
+
+    @PostMapping("/private/upload-sessions/{uploadId}/complete")
+    public ResponseEntity<ApiResponseSchema<?>> completeUploadSession(
+            @PathVariable String uploadId,
+            @RequestParam(required = false) String sha256) {
+        try {
+            CmsFile uploadedFile = fileService.completeChunkedUpload(uploadId, sha256);
+            log.info("Completed chunked upload {} as fileId: {}", uploadId, uploadedFile.getFileId());
+            return ResponseEntity.ok(ApiResponseSchema.success(
+                convertToDto(uploadedFile),
+                "File uploaded successfully"
+            ));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponseSchema.error(e.getMessage(), "UPLOAD_SESSION_NOT_FOUND"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponseSchema.error(e.getMessage(), "UPLOAD_INCOMPLETE"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponseSchema.error(e.getMessage(), "FILE_CHECKSUM_MISMATCH"));
+        } catch (Exception e) {
+            log.error("Failed to complete upload session: {}", uploadId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponseSchema.error(
+                    "Failed to complete upload: " + e.getMessage(),
+                    "INTERNAL_SERVER_ERR"
+                ));
+        }
+    }
+
+    @DeleteMapping("/private/upload-sessions/{uploadId}")
+    public ResponseEntity<ApiResponseSchema<?>> deleteUploadSession(@PathVariable String uploadId) {
+        try {
+            chunkedUploadStore.getSession(uploadId);
+            chunkedUploadStore.remove(uploadId);
+            return ResponseEntity.ok(ApiResponseSchema.success(
+                "Upload session deleted successfully"
+            ));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponseSchema.error(e.getMessage(), "UPLOAD_SESSION_NOT_FOUND"));
+        } catch (Exception e) {
+            log.error("Failed to delete upload session: {}", uploadId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponseSchema.error(
+                    "Failed to delete upload session: " + e.getMessage(),
+                    "INTERNAL_SERVER_ERR"
+                ));
+        }
+    }
+
     @GetMapping("/private/list")
     public ResponseEntity<ApiResponseSchema<?>> getFileList(
             @RequestParam String menu,
@@ -333,7 +466,10 @@ public class FileController {
     }
 
     // Helper method to build ResponseEntity for file serving
-    private ResponseEntity<?> buildFileResponse(Long fileId, boolean inlineDisposition) {
+    // 응답은 FileContentSender 가 직접 기록하고 null 반환 (Range/조건부 요청 처리, 오류만 JSON)
+    // width/thumbnail 이 있으면 이미지 파생본 제공 (이미지가 아니거나 생성 실패 시 원본)
+    private ResponseEntity<?> buildFileResponse(Long fileId, boolean inlineDisposition, Integer width,
+            boolean thumbnail, HttpServletRequest request, HttpServletResponse response) {
         try {
             CmsFile fileInfo = fileService.getFile(fileId);
             if (fileInfo == null || !"Y".equals(fileInfo.getPublicYn())) {
@@ -342,51 +478,35 @@ public class FileController {
                         .body(ApiResponseSchema.error("File not found or not public.", "FILE_NOT_FOUND"));
             }
 
-            Resource resource = fileService.loadFileAsResource(fileInfo.getSavedName());
-
-            String contentType = fileInfo.getMimeType();
-        try {
-                if (contentType == null || contentType.equals(MediaType.APPLICATION_OCTET_STREAM_VALUE)) {
-                    contentType = java.nio.file.Files.probeContentType(resource.getFile().toPath());
+            ContentDisposition disposition = (inlineDisposition ? ContentDisposition.inline() : ContentDisposition.attachment())
+                    .filename(fileInfo.getOriginName(), StandardCharsets.UTF_8)
+                    .build();
+            String savedName = fileInfo.getSavedName();
+            String contentType = resolveContentType(fileInfo);
+            if ((thumbnail || (width != null && width > 0)) && derivativeGenerator.supports(savedName)) {
+                String derivative = thumbnail ? derivativeGenerator.thumbnail(savedName)
+                        : derivativeGenerator.forWidth(savedName, width);
+                if (derivative != null) {
+                    savedName = derivative;
+                    contentType = derivativeGenerator.contentType(derivative);
                 }
-            } catch (IOException | UnsupportedOperationException ex) { // Added UnsupportedOperationException for certain Resource types
-                log.info("Could not determine file type for {} via probeContentType. Relying on stored MIME type or defaulting. Error: {}", fileInfo.getSavedName(), ex.getMessage());
-                // Keep stored contentType if probe fails or is not supported
-            }
-            if (contentType == null) { // Still null after probe or if probe failed
-                contentType = MediaType.APPLICATION_OCTET_STREAM_VALUE;
-            }
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType(contentType));
-
-            String encodedFileName = URLEncoder.encode(fileInfo.getOriginName(), StandardCharsets.UTF_8.toString()).replaceAll("\\+", "%20");
-
-            if (inlineDisposition) {
-                headers.setContentDispositionFormData("inline", encodedFileName);
-            } else {
-                headers.setContentDispositionFormData("attachment", encodedFileName);
             }
-            
-            // Add Cache-Control header to prevent caching of sensitive files if needed, or allow caching for public images
-            // For example, for public images that change infrequently:
-            // headers.setCacheControl(CacheControl.maxAge(3600, TimeUnit.SECONDS).mustRevalidate().cachePublic());
-            // For downloads or sensitive files:
-            // headers.setCacheControl(CacheControl.noCache().noStore().mustRevalidate());
-            // For now, let's use a general no-cache for simplicity, adjust as needed.
-            headers.setCacheControl("no-cache, no-store, must-revalidate");
-            headers.setPragma("no-cache");
-            headers.setExpires(0L);
-
-
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(resource);
+            fileContentSender.send(request, response, savedName, contentType, disposition.toString());
+            return null;
 
-        } catch (EntityNotFoundException e) {
+        } catch (EntityNotFoundException | NoSuchFileException e) {
             log.warn("File not found, fileId: {}", fileId, e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponseSchema.error("File not found with id: " + fileId, "FILE_NOT_FOUND"));
+        } catch (IOException e) {
+            if (response.isCommitted()) {
+                // 재생 위치 이동 등으로 클라이언트가 연결을 끊은 경우
+                log.debug("File transfer aborted for fileId: {}: {}", fileId, e.getMessage());
+                return null;
+            }
+            log.error("Error during file serving for fileId: {}. Inline: {}", fileId, inlineDisposition, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseSchema.error("Could not serve file: " + e.getMessage(), "INTERNAL_SERVER_ERR"));
         } catch (Exception e) {
             log.error("Error during file serving for fileId: {}. Inline: {}", fileId, inlineDisposition, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -394,15 +514,36 @@ public class FileController {
         }
     }
 
+    // 업로드 시 확정한 MIME 타입 사용, 이전 데이터처럼 비어 있으면 원본 파일명 확장자로 판별
+    private static String resolveContentType(CmsFile fileInfo) {
+        String contentType = fileInfo.getMimeType();
+        if (contentType == null || contentType.equals(MediaType.APPLICATION_OCTET_STREAM_VALUE)) {
+            contentType = MediaTypeFactory.getMediaType(fileInfo.getOriginName())
+                    .map(MediaType::toString)
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        }
+        return contentType;
+    }
+
     @GetMapping("/public/view/{fileId}")
-    public ResponseEntity<?> viewPublicFile(@PathVariable Long fileId) {
-        log.debug("Request to view file with ID: {}", fileId);
-        return buildFileResponse(fileId, true); // true for inline disposition
+    public ResponseEntity<?> viewPublicFile(@PathVariable Long fileId,
+            @RequestParam(value = "w", required = false) Integer width,
+            HttpServletRequest request, HttpServletResponse response) {
+        log.debug("Request to view file with ID: {}, width: {}", fileId, width);
+        return buildFileResponse(fileId, true, width, false, request, response); // true for inline disposition
+    }
+
+    @GetMapping("/public/thumbnail/{fileId}")
+    public ResponseEntity<?> viewPublicThumbnail(@PathVariable Long fileId, HttpServletRequest request,
+            HttpServletResponse response) {
+        log.debug("Request to view thumbnail of file with ID: {}", fileId);
+        return buildFileResponse(fileId, true, null, true, request, response);
     }
 
     @GetMapping("/public/download/{fileId}")
-    public ResponseEntity<?> downloadPublicFile(@PathVariable Long fileId) {
+    public ResponseEntity<?> downloadPublicFile(@PathVariable Long fileId, HttpServletRequest request,
+            HttpServletResponse response) {
         log.debug("Request to download file with ID: {}", fileId);
-        return buildFileResponse(fileId, false); // false for attachment disposition
+        return buildFileResponse(fileId, false, null, false, request, response); // false for attachment disposition
     }
 } 
\ No newline at end of file
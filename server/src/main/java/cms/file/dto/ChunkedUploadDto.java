@@ -0,0 +1,19 @@
+package cms.file.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 분할 업로드 상태
+ * - received: 지금까지 받은 크기 (다음 조각의 offset)
+ * - chunkSize: 조각 최대 크기
+ */
+@Getter
+@Setter
+public class ChunkedUploadDto {
+    private String uploadId;
+    private String fileName;
+    private Long size;
+    private Long received;
+    private Integer chunkSize;
+}
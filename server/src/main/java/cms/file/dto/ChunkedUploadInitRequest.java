@@ -0,0 +1,17 @@
+package cms.file.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 분할 업로드 시작 요청
+ */
+@Getter
+@Setter
+public class ChunkedUploadInitRequest {
+    private String menu;
+    private Long menuId;
+    private String fileName;
+    private String contentType;
+    private Long size;
+}
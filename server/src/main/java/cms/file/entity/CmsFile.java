@@ -29,9 +29,13 @@ public class CmsFile {
     @Column(name = "origin_name", nullable = false, length = 255)
     private String originName;
 
-    @Column(name = "saved_name", nullable = false, length = 255, unique = true)
+    // 같은 내용의 파일은 같은 저장 파일명을 공유 (file_blob)
+    @Column(name = "saved_name", nullable = false, length = 255)
     private String savedName;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "mime_type", nullable = false, length = 100)
     private String mimeType;
 
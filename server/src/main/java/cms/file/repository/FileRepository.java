@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,6 +19,18 @@ public interface FileRepository extends JpaRepository<CmsFile, Long>, JpaSpecifi
             @Param("menuId") Long menuId
     );
     
+    @Query("SELECT f.menuId, COUNT(f) FROM CmsFile f WHERE f.menu = :menu AND f.menuId IN :menuIds GROUP BY f.menuId")
+    List<Object[]> countByMenuAndMenuIdIn(
+            @Param("menu") String menu,
+            @Param("menuIds") Collection<Long> menuIds
+    );
+
+    @Query("SELECT f FROM CmsFile f WHERE f.menu IN :menus AND f.menuId IN :menuIds")
+    List<CmsFile> findByMenuInAndMenuIdIn(
+            @Param("menus") Collection<String> menus,
+            @Param("menuIds") Collection<Long> menuIds
+    );
+
     @Query("SELECT f FROM CmsFile f WHERE f.menu = :menu AND f.menuId = :menuId AND f.publicYn = 'Y' ORDER BY f.fileOrder ASC")
     List<CmsFile> findPublicByMenuAndMenuId(@Param("menu") String menu, @Param("menuId") Long menuId);
     
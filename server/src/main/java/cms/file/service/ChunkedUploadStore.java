@@ -0,0 +1,266 @@
+package cms.file.service;
+
+import cms.config.DynamicDataSourceConfiguration.TenantContext;
+import cms.file.dto.ChunkedUploadDto;
+import cms.file.dto.ChunkedUploadInitRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 분할(재개 가능) 업로드 세션
+ * - 세션마다 "<uploadId>.part" 에 조각을 offset 순서대로 FileChannel 로 이어 쓰고 "<uploadId>.json" 에 메타 저장
+ *   (로컬 저장소면 같은 파일시스템이라 완료 시 복사 없이 이동, S3 면 완료 시 멀티파트 업로드)
+ * - 받은 크기 = .part 크기: 연결이 끊기면 상태 조회로 받은 크기를 확인하고 그 위치부터 다시 전송
+ * - offset 이 받은 크기보다 작으면 그 위치로 잘라 내고 다시 씀 (응답을 못 받은 조각 재전송), 크면 거절
+ * - 조각은 받으면서 SHA-256 을 계산해 X-Chunk-SHA256 과 다르거나 전송이 끊기면 조각 시작 위치로 되돌림
+ * - 같은 세션에 동시에 쓰지 않도록 파일 잠금, expiry 가 지난 세션은 정리
+ * - 세션 파일은 노드 로컬 디스크에 있으므로 다중 노드에서는 같은 노드로 라우팅되어야 함
+ */
+@Component
+@Slf4j
+public class ChunkedUploadStore {
+
+    private static final Pattern UPLOAD_ID = Pattern.compile("[0-9a-f]{32}");
+    private static final String PART_SUFFIX = ".part";
+    private static final String META_SUFFIX = ".json";
+
+    private final ObjectMapper objectMapper;
+    private final FileBlobStore fileBlobStore;
+
+    @Value("${spring.file.chunked.chunk-size:8388608}")
+    private int chunkSize;
+
+    @Value("${spring.file.chunked.max-size:2147483648}")
+    private long maxSize;
+
+    @Value("${spring.file.chunked.expiry:86400000}")
+    private long expiryMillis;
+
+    public ChunkedUploadStore(ObjectMapper objectMapper, FileBlobStore fileBlobStore) {
+        this.objectMapper = objectMapper;
+        this.fileBlobStore = fileBlobStore;
+    }
+
+    public ChunkedUploadDto create(ChunkedUploadInitRequest request) throws IOException {
+        if (request.getMenu() == null || request.getMenuId() == null || request.getFileName() == null
+                || request.getFileName().trim().isEmpty()) {
+            throw new IllegalArgumentException("menu, menuId and fileName are required");
+        }
+        if (request.getSize() == null || request.getSize() <= 0 || request.getSize() > maxSize) {
+            throw new IllegalArgumentException("size must be between 1 and " + maxSize + " bytes");
+        }
+        UploadSession session = new UploadSession();
+        session.setUploadId(UUID.randomUUID().toString().replace("-", ""));
+        session.setTenantId(TenantContext.getCurrentTenantOrDefault());
+        session.setMenu(request.getMenu());
+        session.setMenuId(request.getMenuId());
+        session.setFileName(request.getFileName());
+        session.setContentType(request.getContentType());
+        session.setSize(request.getSize());
+
+        Path directory = directory();
+        Files.createFile(directory.resolve(session.getUploadId() + PART_SUFFIX));
+        objectMapper.writeValue(directory.resolve(session.getUploadId() + META_SUFFIX).toFile(), session);
+        return toDto(session, 0);
+    }
+
+    public ChunkedUploadDto status(String uploadId) throws IOException {
+        UploadSession session = getSession(uploadId);
+        return toDto(session, Files.size(partPath(uploadId)));
+    }
+
+    /**
+     * offset 위치에 조각 기록
+     *
+     * @throws IllegalStateException    offset 이 받은 크기보다 크거나 다른 요청이 같은 세션에 쓰는 중
+     * @throws IllegalArgumentException 조각이 너무 크거나 체크섬 불일치 (받은 크기는 offset 으로 되돌림)
+     */
+    public ChunkedUploadDto append(String uploadId, long offset, InputStream body, String chunkSha256)
+            throws IOException {
+        UploadSession session = getSession(uploadId);
+        if (chunkSha256 == null || chunkSha256.trim().isEmpty()) {
+            throw new IllegalArgumentException("X-Chunk-SHA256 header is required");
+        }
+        try (FileChannel channel = FileChannel.open(partPath(uploadId), StandardOpenOption.WRITE)) {
+            FileLock lock = tryLock(channel);
+            if (lock == null) {
+                throw new IllegalStateException("Another chunk is being written to upload " + uploadId);
+            }
+            try {
+                long received = channel.size();
+                if (offset < 0 || offset > received) {
+                    throw new IllegalStateException("Chunk offset " + offset + " does not match received size " + received);
+                }
+                if (offset < received) {
+                    channel.truncate(offset);
+                }
+                long written;
+                try {
+                    written = write(channel, session, offset, body, chunkSha256);
+                } catch (IOException | RuntimeException e) {
+                    channel.truncate(offset);
+                    throw e;
+                }
+                return toDto(session, offset + written);
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * 모두 받은 세션의 파일 경로 (완료 처리용)
+     *
+     * @throws IllegalStateException 아직 다 받지 않았을 때
+     */
+    public Path completedPart(UploadSession session) throws IOException {
+        Path part = partPath(session.getUploadId());
+        long received = Files.size(part);
+        if (received != session.getSize()) {
+            throw new IllegalStateException("Upload " + session.getUploadId() + " is incomplete: " + received + " of "
+                    + session.getSize() + " bytes received");
+        }
+        return part;
+    }
+
+    public UploadSession getSession(String uploadId) throws IOException {
+        if (uploadId == null || !UPLOAD_ID.matcher(uploadId).matches()) {
+            throw new EntityNotFoundException("Upload session not found: " + uploadId);
+        }
+        Path meta = directory().resolve(uploadId + META_SUFFIX);
+        if (!Files.exists(meta)) {
+            throw new EntityNotFoundException("Upload session not found: " + uploadId);
+        }
+        UploadSession session = objectMapper.readValue(meta.toFile(), UploadSession.class);
+        if (!TenantContext.getCurrentTenantOrDefault().equals(session.getTenantId())) {
+            throw new EntityNotFoundException("Upload session not found: " + uploadId);
+        }
+        return session;
+    }
+
+    public void remove(String uploadId) {
+        try {
+            Path directory = directory();
+            Files.deleteIfExists(directory.resolve(uploadId + PART_SUFFIX));
+            Files.deleteIfExists(directory.resolve(uploadId + META_SUFFIX));
+        } catch (IOException e) {
+            log.error("Error removing upload session {}: {}", uploadId, e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막 조각 이후 expiry 가 지난 세션 정리
+     */
+    @Scheduled(fixedDelayString = "${spring.file.chunked.cleanup-interval:3600000}")
+    public void removeExpired() {
+        long cutoff = System.currentTimeMillis() - expiryMillis;
+        int removed = 0;
+        try (DirectoryStream<Path> parts = Files.newDirectoryStream(directory(), "*" + PART_SUFFIX)) {
+            for (Path part : parts) {
+                if (Files.getLastModifiedTime(part).toMillis() < cutoff) {
+                    String name = part.getFileName().toString();
+                    remove(name.substring(0, name.length() - PART_SUFFIX.length()));
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean up expired upload sessions: {}", e.getMessage());
+        }
+        if (removed > 0) {
+            log.info("Removed {} expired upload sessions", removed);
+        }
+    }
+
+    private long write(FileChannel channel, UploadSession session, long offset, InputStream body, String chunkSha256)
+            throws IOException {
+        MessageDigest digest = sha256();
+        ReadableByteChannel in = Channels.newChannel(new DigestInputStream(body, digest));
+        // 한 바이트 더 받아 보고 초과 여부 판단
+        long limit = Math.min(chunkSize, session.getSize() - offset) + 1;
+        long written = 0;
+        while (written < limit) {
+            long transferred = channel.transferFrom(in, offset + written, limit - written);
+            if (transferred <= 0) {
+                break;
+            }
+            written += transferred;
+        }
+        if (written == limit) {
+            throw new IllegalArgumentException("Chunk exceeds " + (limit - 1) + " bytes");
+        }
+        if (!Hex.encodeHexString(digest.digest()).equalsIgnoreCase(chunkSha256.trim())) {
+            throw new IllegalArgumentException("Chunk checksum mismatch at offset " + offset);
+        }
+        return written;
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    private Path partPath(String uploadId) throws IOException {
+        return directory().resolve(uploadId + PART_SUFFIX);
+    }
+
+    private Path directory() throws IOException {
+        return fileBlobStore.stagingDirectory(".uploads");
+    }
+
+    private ChunkedUploadDto toDto(UploadSession session, long received) {
+        ChunkedUploadDto dto = new ChunkedUploadDto();
+        dto.setUploadId(session.getUploadId());
+        dto.setFileName(session.getFileName());
+        dto.setSize(session.getSize());
+        dto.setReceived(received);
+        dto.setChunkSize(chunkSize);
+        return dto;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class UploadSession {
+        private String uploadId;
+        private String tenantId;
+        private String menu;
+        private Long menuId;
+        private String fileName;
+        private String contentType;
+        private Long size;
+    }
+}
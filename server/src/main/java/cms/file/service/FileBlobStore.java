@@ -0,0 +1,321 @@
+package cms.file.service;
+
+import cms.config.DynamicDataSourceConfiguration.TenantContext;
+import cms.config.TenantRegistry;
+import cms.file.entity.CmsFile;
+import cms.file.storage.StorageStrategy;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 내용 주소 기반 파일 저장 (file_blob)
+ * - 업로드를 디스크로 복사하면서 SHA-256 을 계산, 같은 내용은 "blob/<테넌트>/<해시 앞 2자리>/<해시>.<ext>" 한 곳에만 저장
+ * - 참조 수(ref_count)는 file 행과 같은 트랜잭션에서 증감 (테넌트 DB 단위라 저장 경로도 테넌트별)
+ * - 이미 있는 내용이면 임시 파일만 지우고 저장소로의 복사 생략 (저장/삭제는 모두 StorageStrategy 경유)
+ * - 저장소 기록(stage)은 DB 작업 전에 끝내고 트랜잭션에서는 참조 수 증가와 file 행만 처리 (S3 대용량 업로드 중 커넥션/행 잠금 점유 없음)
+ * - 참조가 0 이 되면 커밋 후 새 트랜잭션에서 행을 잠근 채 다시 확인하고 실제 파일(파생본 포함)과 행 삭제
+ *   (같은 내용 업로드는 행 잠금을 기다린 뒤 파일이 없으면 다시 기록하므로 삭제와 겹쳐도 유실 없음)
+ * - 업로드 트랜잭션이 롤백되면 새로 기록한 파일은 남음 (다음 같은 내용 업로드가 재사용)
+ * - 해시가 없는 이전 방식 파일은 커밋 후 바로 삭제
+ */
+@Component
+@Slf4j
+public class FileBlobStore {
+
+    private static final String BLOB_DIR = "blob";
+    private static final String INCOMING_DIR = ".incoming";
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private static final String UPSERT_SQL = "INSERT INTO file_blob (content_hash, saved_name, size, ref_count) VALUES (?, ?, ?, 1) "
+            + "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1";
+    private static final String SELECT_SAVED_NAME_SQL = "SELECT saved_name FROM file_blob WHERE content_hash = ?";
+    private static final String DECREMENT_SQL = "UPDATE file_blob SET ref_count = ref_count - 1 WHERE content_hash = ?";
+    private static final String LOCK_UNREFERENCED_SQL = "SELECT saved_name FROM file_blob WHERE content_hash = ? AND ref_count <= 0 FOR UPDATE";
+    private static final String DELETE_SQL = "DELETE FROM file_blob WHERE content_hash = ?";
+    private static final String SELECT_UNREFERENCED_SQL = "SELECT content_hash FROM file_blob WHERE ref_count <= 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate cleanupTransaction;
+    private final FileDerivativeGenerator derivativeGenerator;
+    private final TenantRegistry tenantRegistry;
+    private final StorageStrategy storage;
+
+    public FileBlobStore(DataSource dataSource, PlatformTransactionManager transactionManager,
+            FileDerivativeGenerator derivativeGenerator, TenantRegistry tenantRegistry, StorageStrategy storage) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.cleanupTransaction = new TransactionTemplate(transactionManager);
+        // afterCommit 에서 실행되므로 원래 트랜잭션에 참여하지 않도록 새 트랜잭션 사용
+        this.cleanupTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.derivativeGenerator = derivativeGenerator;
+        this.tenantRegistry = tenantRegistry;
+        this.storage = storage;
+    }
+
+    /**
+     * 업로드 내용을 해시하며 작업 디렉터리로 받은 뒤 저장소에 기록 (DB 작업 없음 - 트랜잭션 밖, 또는 첫 SQL 전에 호출)
+     * - 같은 이름의 내용이 이미 저장소에 있으면 기록 생략
+     * - 사용 후 discard 로 임시 파일 정리
+     *
+     * @param ext 저장 파일 확장자 (처음 저장될 때만 사용)
+     */
+    public StagedBlob stage(MultipartFile file, String ext) throws IOException {
+        Path temp = Files.createTempFile(stagingDirectory(INCOMING_DIR), "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return write(new StagedBlob(temp, true, Hex.encodeHexString(digest.digest()), size, ext));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 작업 디렉터리에 이미 있는 파일(분할 업로드 결과)을 저장소에 기록 - 로컬 저장소면 복사 없이 이동
+     * (source 는 호출 측 소유라 discard 에서 지우지 않음)
+     *
+     * @param expectedHash 클라이언트가 보낸 전체 SHA-256 (없으면 확인 생략)
+     * @throws IllegalArgumentException 해시가 다를 때 (저장소 기록 전)
+     */
+    public StagedBlob stage(Path source, String ext, String expectedHash) throws IOException {
+        MessageDigest digest = sha256();
+        long size = 0;
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(HASH_BUFFER_SIZE);
+            int read;
+            while ((read = channel.read(buffer)) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+                size += read;
+            }
+        }
+        String hash = Hex.encodeHexString(digest.digest());
+        if (expectedHash != null && !expectedHash.trim().isEmpty() && !hash.equalsIgnoreCase(expectedHash.trim())) {
+            throw new IllegalArgumentException("File checksum mismatch: expected " + expectedHash + ", got " + hash);
+        }
+        return write(new StagedBlob(source, false, hash, size, ext));
+    }
+
+    /**
+     * 저장 전 작업 디렉터리 (로컬 저장소면 같은 파일시스템이라 이동만으로 저장)
+     */
+    public Path stagingDirectory(String name) throws IOException {
+        return storage.stagingDirectory(name);
+    }
+
+    private StagedBlob write(StagedBlob staged) throws IOException {
+        if (!storage.exists(staged.target)) {
+            storage.store(staged.source, staged.target);
+            staged.written = true;
+        }
+        return staged;
+    }
+
+    /**
+     * 기록해 둔 내용의 참조 추가 (file 행 저장과 같은 트랜잭션에서 호출, 행 잠금 중에는 저장소 기록 없음)
+     * - 같은 해시가 다른 이름(확장자)으로 이미 등록되어 있으면 그 이름을 따르고 이번에 기록한 파일은 커밋 후 삭제
+     * - 잠금 후 다시 확인해 파일이 없으면 (기록과 참조 추가 사이에 정리가 지운 경우) 남은 임시 파일로 다시 기록
+     */
+    public StoredBlob register(StagedBlob staged) throws IOException {
+        jdbcTemplate.update(UPSERT_SQL, staged.hash, staged.target, staged.size);
+        String savedName = jdbcTemplate.queryForObject(SELECT_SAVED_NAME_SQL, String.class, staged.hash);
+        boolean created = staged.written && savedName.equals(staged.target);
+        if (staged.written && !created) {
+            String orphan = staged.target;
+            runAfterCommit(() -> deletePhysicalFile(orphan));
+        }
+        if (!storage.exists(savedName)) {
+            if (!Files.exists(staged.source)) {
+                throw new IOException("Stored content for " + staged.hash + " was removed during upload, please retry");
+            }
+            storage.store(staged.source, savedName);
+            created = true;
+        }
+        return new StoredBlob(staged.hash, savedName, staged.size, created);
+    }
+
+    /**
+     * stage 에서 만든 임시 파일 정리 (커밋/롤백과 관계없이 호출)
+     */
+    public void discard(StagedBlob staged) {
+        if (!staged.ownsSource) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(staged.source);
+        } catch (IOException e) {
+            log.warn("Failed to delete staged upload {}: {}", staged.source, e.getMessage());
+        }
+    }
+
+    /**
+     * 파일 행 삭제와 같은 트랜잭션에서 호출: 참조 감소, 커밋 후 참조가 없는 내용과 이전 방식 파일 삭제
+     */
+    public void release(Collection<CmsFile> files) {
+        // 여러 행을 잠글 때 교착을 피하도록 해시 순서로 감소
+        List<String> hashes = new ArrayList<>();
+        List<String> legacyNames = new ArrayList<>();
+        for (CmsFile file : files) {
+            if (file.getContentHash() != null) {
+                hashes.add(file.getContentHash());
+            } else {
+                legacyNames.add(file.getSavedName());
+            }
+        }
+        hashes.sort(null);
+        for (String hash : hashes) {
+            jdbcTemplate.update(DECREMENT_SQL, hash);
+        }
+        Set<String> released = new TreeSet<>(hashes);
+        runAfterCommit(() -> {
+            for (String savedName : legacyNames) {
+                deletePhysicalFile(savedName);
+            }
+            for (String hash : released) {
+                cleanup(hash);
+            }
+        });
+    }
+
+    /**
+     * 커밋 후 정리가 누락된 (참조 0) 내용 정리 (테넌트별, 매일 새벽)
+     */
+    @Scheduled(cron = "${spring.file.blob.sweep-cron:0 0 4 * * *}")
+    public void sweepAllTenants() {
+        Set<String> tenants = new LinkedHashSet<>();
+        tenants.add(TenantContext.DEFAULT_TENANT);
+        tenants.addAll(tenantRegistry.current().getTenantIds());
+        for (String tenantId : tenants) {
+            TenantContext.setCurrentTenant(tenantId);
+            try {
+                List<String> hashes = jdbcTemplate.queryForList(SELECT_UNREFERENCED_SQL, String.class);
+                hashes.forEach(this::cleanup);
+                if (!hashes.isEmpty()) {
+                    log.info("Swept {} unreferenced file blobs for tenant {}", hashes.size(), tenantId);
+                }
+            } catch (Exception e) {
+                log.warn("File blob sweep failed for tenant {}: {}", tenantId, e.getMessage());
+            } finally {
+                TenantContext.clear();
+            }
+        }
+    }
+
+    private void cleanup(String hash) {
+        try {
+            cleanupTransaction.executeWithoutResult(status -> {
+                List<String> savedNames = jdbcTemplate.queryForList(LOCK_UNREFERENCED_SQL, String.class, hash);
+                if (savedNames.isEmpty()) {
+                    return;
+                }
+                deletePhysicalFile(savedNames.get(0));
+                jdbcTemplate.update(DELETE_SQL, hash);
+            });
+        } catch (RuntimeException e) {
+            log.error("Error releasing file blob {}: {}", hash, e.getMessage());
+        }
+    }
+
+    private void deletePhysicalFile(String savedName) {
+        try {
+            storage.delete(savedName);
+        } catch (RuntimeException e) {
+            log.error("Error deleting physical file {}: {}", savedName, e.getMessage());
+        }
+        derivativeGenerator.deleteAll(savedName);
+    }
+
+    private static String blobName(String hash, String ext) {
+        String name = BLOB_DIR + "/" + TenantContext.getCurrentTenantOrDefault() + "/" + hash.substring(0, 2) + "/" + hash;
+        return ext != null && !ext.isEmpty() ? name + "." + ext.toLowerCase(Locale.ROOT) : name;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 현재 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시)
+    private static void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 저장소에 기록했지만 아직 참조를 추가하지 않은 내용
+     */
+    public static final class StagedBlob {
+        private final Path source;
+        // stage 가 만든 임시 파일인지 (분할 업로드 파일은 세션 정리에서 삭제)
+        private final boolean ownsSource;
+        private final String hash;
+        private final String target;
+        private final long size;
+        private boolean written;
+
+        private StagedBlob(Path source, boolean ownsSource, String hash, long size, String ext) {
+            this.source = source;
+            this.ownsSource = ownsSource;
+            this.hash = hash;
+            this.target = blobName(hash, ext);
+            this.size = size;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class StoredBlob {
+        private final String contentHash;
+        private final String savedName;
+        private final long size;
+        // 이번 업로드로 새로 기록했는지 (false 면 같은 내용이 이미 있어 복사 생략)
+        private final boolean created;
+    }
+}
@@ -0,0 +1,170 @@
+package cms.file.service;
+
+import cms.file.storage.StorageStrategy;
+import cms.file.storage.StoredObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 공개 파일 본문 전송
+ * - 강한 ETag(저장 파일명 + 크기)와 Last-Modified 로 조건부 요청 처리 (일치하면 304)
+ * - 단일 Range 는 206 + Content-Range, If-Range 가 현재 ETag/수정 시각과 다르면 전체 응답, 범위 밖이면 416
+ * - 여러 구간 Range 는 무시하고 전체 응답 (RFC 7233 허용 범위, 미디어 재생은 단일 구간만 요청)
+ * - 로컬 저장소 본문은 Tomcat sendfile 이 가능하면 커널에 맡기고, 아니면 FileChannel.transferTo 로 전송
+ * - 로컬 파일이 없는 저장소(S3)는 요청 구간만 Range GET 으로 받아 그대로 전달
+ * - URL 이 fileId 기준이라 (비공개 전환, 파생본 대신 원본 제공 등) 같은 URL 의 응답이 바뀔 수 있으므로 immutable 로 두지 않음
+ *   cache-max-age 가 0 이면 no-cache (매번 ETag 로 재검증, 바뀌지 않았으면 304), 양수면 그 기간만 캐시
+ */
+@Component
+@Slf4j
+public class FileContentSender {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // Tomcat DefaultServlet 과 같은 기준: 작은 파일은 sendfile 전환 비용이 더 큼
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private final String cacheControl;
+    private final StorageStrategy storage;
+
+    public FileContentSender(@Value("${spring.file.serve.cache-max-age:0}") long cacheMaxAge,
+            StorageStrategy storage) {
+        this.cacheControl = cacheMaxAge > 0 ? "public, max-age=" + cacheMaxAge : "no-cache";
+        this.storage = storage;
+    }
+
+    /**
+     * 파일 응답 작성 (헤더, 상태, 본문 모두 response 에 직접 기록)
+     *
+     * @param savedName          저장소 경로 (ETag 도 이 이름으로 생성)
+     * @param contentType        업로드 시 확정한 MIME 타입
+     * @param contentDisposition Content-Disposition 헤더 값
+     * @throws java.nio.file.NoSuchFileException 저장 파일이 없을 때 (응답은 아직 기록하지 않음)
+     */
+    public void send(HttpServletRequest request, HttpServletResponse response, String savedName,
+            String contentType, String contentDisposition) throws IOException {
+        StoredObject object = storage.stat(savedName);
+        long length = object.getSize();
+        long lastModified = object.getLastModified();
+        String etag = etag(savedName, length);
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, etag, lastModified)) {
+            List<HttpRange> ranges = parseRanges(rangeHeader);
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+                if (start >= length || start > end) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        Path path = storage.getLocalPath(savedName);
+        if (path == null) {
+            try (InputStream in = storage.download(savedName, start, end)) {
+                StreamUtils.copy(in, response.getOutputStream());
+            }
+            return;
+        }
+        if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(path, start, count, response);
+    }
+
+    private static void transfer(Path path, long start, long count, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    throw new IOException("File shrank while sending: " + path);
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * If-Range 가 없거나 현재 표현과 같으면 true (ETag 는 강한 비교, 날짜는 초 단위 일치)
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return etag.equals(ifRange.trim());
+        }
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return date != -1 && date / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 형식이 잘못된 Range 는 없는 것으로 처리 (전체 응답)
+     */
+    private static List<HttpRange> parseRanges(String rangeHeader) {
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring invalid Range header '{}': {}", rangeHeader, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private static String etag(String savedName, long length) {
+        String name = savedName.substring(savedName.lastIndexOf('/') + 1);
+        int dot = name.lastIndexOf('.');
+        return "\"" + (dot > 0 ? name.substring(0, dot) : name) + "-" + Long.toHexString(length) + "\"";
+    }
+}
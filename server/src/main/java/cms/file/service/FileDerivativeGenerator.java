@@ -0,0 +1,378 @@
+package cms.file.service;
+
+import cms.file.storage.StorageStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.imgscalr.Scalr;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 이미지 파생본(썸네일, 반응형 너비) 생성
+ * - 원본 옆에 "<이름>_thumb.<ext>", "<이름>_w<너비>.<ext>" 로 저장 (작업 디렉터리의 임시 파일에 쓴 뒤 저장소로 옮김)
+ * - 원본은 로컬 저장소면 파일에서 직접, 아니면 작업 디렉터리로 한 번 받아서 읽음
+ * - 디코딩할 수 없는 원본만 재시작 전까지 원본 제공, 저장소 오류는 다음 요청에서 재시도
+ * - 업로드 커밋 후 제한된 작업 풀에서 모든 파생본을 원본 한 번 디코딩으로 생성, 큐가 차면 버리고 요청 시 생성
+ * - 요청 시 없으면 그 자리에서 생성, 같은 파생본을 동시에 요청하면 한 번만 생성하고 나머지는 결과를 기다림
+ * - 디코딩은 필요한 크기의 2배까지 서브샘플링해 큰 원본의 메모리 사용을 줄이고, max-pixels 를 넘는 원본은 건너뜀
+ * - ImageIO 로 쓸 수 없는 형식(기본 JDK 의 webp 등)이 설정되면 jpg, 투명도가 있을 수 있는 png 원본은 png 로 저장
+ */
+@Component
+@Slf4j
+public class FileDerivativeGenerator {
+
+    private static final Set<String> SOURCE_EXTENSIONS = new HashSet<>(Arrays.asList("jpg", "jpeg", "png", "bmp"));
+    private static final Set<String> ALPHA_FORMATS = new HashSet<>(Arrays.asList("png", "webp"));
+    private static final long WAIT_SECONDS = 30;
+    private static final String DERIVATIVE_DIR = "derivatives";
+
+    private final boolean enabled;
+    private final int thumbnailWidth;
+    private final int thumbnailHeight;
+    private final int[] widths;
+    private final String format;
+    private final long maxPixels;
+    private final ThreadPoolTaskExecutor executor;
+    private final StorageStrategy storage;
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    // 디코딩에 실패한 원본 (재시작 전까지 재시도하지 않고 원본 제공)
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+
+    public FileDerivativeGenerator(@Value("${spring.file.thumbnail.enabled:true}") boolean enabled,
+            @Value("${spring.file.thumbnail.width:256}") int thumbnailWidth,
+            @Value("${spring.file.thumbnail.height:256}") int thumbnailHeight,
+            @Value("${spring.file.thumbnail.format:webp}") String format,
+            @Value("${spring.file.thumbnail.widths:320,640,1280}") int[] widths,
+            @Value("${spring.file.thumbnail.max-pixels:40000000}") long maxPixels,
+            @Value("${spring.file.thumbnail.pool-size:2}") int poolSize,
+            @Value("${spring.file.thumbnail.queue-capacity:200}") int queueCapacity,
+            StorageStrategy storage) {
+        this.enabled = enabled;
+        this.thumbnailWidth = thumbnailWidth;
+        this.thumbnailHeight = thumbnailHeight;
+        this.widths = widths.clone();
+        Arrays.sort(this.widths);
+        String normalized = format.toLowerCase(Locale.ROOT);
+        if (ImageIO.getImageWritersByFormatName(normalized).hasNext()) {
+            this.format = normalized;
+        } else {
+            log.warn("No ImageIO writer for thumbnail format '{}', falling back to jpg/png", format);
+            this.format = null;
+        }
+        this.maxPixels = maxPixels;
+        this.storage = storage;
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-derivative-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.debug("Derivative queue is full, leaving generation to the first request"));
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 파생본을 만들 수 있는 원본인지 (저장 파일명 확장자 기준, gif 는 애니메이션 보존을 위해 제외)
+     */
+    public boolean supports(String savedName) {
+        return enabled && savedName != null
+                && SOURCE_EXTENSIONS.contains(FilenameUtils.getExtension(savedName).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 모든 파생본 생성 예약 (업로드 커밋 후 호출)
+     */
+    public void scheduleAll(String original) {
+        executor.execute(() -> {
+            List<Spec> claimed = new ArrayList<>();
+            for (Spec spec : specs(original)) {
+                if (claim(spec)) {
+                    claimed.add(spec);
+                }
+            }
+            render(original, claimed);
+        });
+    }
+
+    /**
+     * 목록용 썸네일 (생성 실패 시 null - 원본 제공)
+     */
+    public String thumbnail(String original) {
+        return ensure(original, thumbnailSpec(original));
+    }
+
+    /**
+     * 요청 너비 이상인 가장 작은 파생본 (가장 큰 파생본보다 크게 요청하거나 생성 실패 시 null - 원본 제공)
+     */
+    public String forWidth(String original, int width) {
+        for (int candidate : widths) {
+            if (candidate >= width) {
+                return ensure(original, widthSpec(original, candidate));
+            }
+        }
+        return null;
+    }
+
+    public String contentType(String derivative) {
+        return MediaTypeFactory.getMediaType(derivative)
+                .map(MediaType::toString)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    /**
+     * 원본 삭제 시 파생본도 삭제
+     */
+    public void deleteAll(String original) {
+        failed.remove(original);
+        for (Spec spec : specs(original)) {
+            try {
+                storage.delete(spec.target);
+            } catch (RuntimeException e) {
+                log.error("Error deleting derivative file {}: {}", spec.target, e.getMessage());
+            }
+        }
+    }
+
+    private String ensure(String original, Spec spec) {
+        if (storage.exists(spec.target)) {
+            return spec.target;
+        }
+        if (failed.contains(original)) {
+            return null;
+        }
+        CompletableFuture<String> running = inFlight.putIfAbsent(spec.target, spec.result);
+        if (running == null) {
+            // 직전에 다른 스레드가 생성을 마쳤으면 그대로 사용
+            if (storage.exists(spec.target)) {
+                finish(spec, spec.target, null);
+            } else {
+                render(original, Collections.singletonList(spec));
+            }
+            running = spec.result;
+        }
+        try {
+            return running.get(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 예약 생성 권한 획득 (이미 있거나 다른 스레드가 생성 중이면 false)
+     */
+    private boolean claim(Spec spec) {
+        if (inFlight.putIfAbsent(spec.target, spec.result) != null) {
+            return false;
+        }
+        // 직전에 다른 스레드가 생성을 마친 경우
+        if (storage.exists(spec.target)) {
+            finish(spec, spec.target, null);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 디코딩/형식 오류(지원하지 않는 이미지, 픽셀 수 초과, 손상된 파일)만 실패 목록에 올리고,
+     * 저장소 읽기/쓰기 오류는 일시적일 수 있으므로 다음 요청에서 다시 시도
+     */
+    private void render(String original, List<Spec> specs) {
+        if (specs.isEmpty()) {
+            return;
+        }
+        Path downloaded = null;
+        boolean decoding = false;
+        try {
+            Path file = storage.getLocalPath(original);
+            if (file == null) {
+                // 로컬 파일이 없는 저장소는 작업 디렉터리로 받은 뒤 디코딩 (전송 오류와 디코딩 오류 구분)
+                downloaded = Files.createTempFile(storage.stagingDirectory(DERIVATIVE_DIR), "source-", ".tmp");
+                try (InputStream in = storage.download(original)) {
+                    Files.copy(in, downloaded, StandardCopyOption.REPLACE_EXISTING);
+                }
+                file = downloaded;
+            }
+
+            decoding = true;
+            BufferedImage source;
+            int sourceWidth;
+            int sourceHeight;
+            try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+                Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+                if (readers == null || !readers.hasNext()) {
+                    throw new IOException("Unsupported image: " + original);
+                }
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(in, true, true);
+                    sourceWidth = reader.getWidth(0);
+                    sourceHeight = reader.getHeight(0);
+                    if ((long) sourceWidth * sourceHeight > maxPixels) {
+                        throw new IOException("Image exceeds " + maxPixels + " pixels: " + original);
+                    }
+                    double scale = 0;
+                    for (Spec spec : specs) {
+                        scale = Math.max(scale, spec.scale(sourceWidth, sourceHeight));
+                    }
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    int step = Math.max(1, (int) (1 / (scale * 2)));
+                    param.setSourceSubsampling(step, step, 0, 0);
+                    source = reader.read(0, param);
+                } finally {
+                    reader.dispose();
+                }
+            }
+            decoding = false;
+
+            for (Spec spec : specs) {
+                double scale = spec.scale(sourceWidth, sourceHeight);
+                int width = Math.max(1, (int) Math.round(sourceWidth * scale));
+                int height = Math.max(1, (int) Math.round(sourceHeight * scale));
+                BufferedImage image = source.getWidth() == width && source.getHeight() == height ? source
+                        : Scalr.resize(source, Scalr.Method.QUALITY, Scalr.Mode.FIT_EXACT, width, height);
+                write(image, spec.format, spec.target);
+                finish(spec, spec.target, null);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Derivative generation failed for {}: {}", original, e.getMessage());
+            if (decoding) {
+                failed.add(original);
+            }
+            for (Spec spec : specs) {
+                finish(spec, null, e);
+            }
+        } finally {
+            if (downloaded != null) {
+                try {
+                    Files.deleteIfExists(downloaded);
+                } catch (IOException e) {
+                    log.debug("Failed to delete downloaded source {}: {}", downloaded, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void finish(Spec spec, String target, Exception error) {
+        if (error != null) {
+            spec.result.completeExceptionally(error);
+        } else {
+            spec.result.complete(target);
+        }
+        inFlight.remove(spec.target, spec.result);
+    }
+
+    private void write(BufferedImage image, String format, String target) throws IOException {
+        BufferedImage output = image;
+        if (!ALPHA_FORMATS.contains(format) && image.getColorModel().hasAlpha()) {
+            output = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = output.createGraphics();
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+            graphics.dispose();
+        }
+        Path temp = Files.createTempFile(storage.stagingDirectory(DERIVATIVE_DIR), "derivative-", "." + format);
+        try {
+            if (!ImageIO.write(output, format, temp.toFile())) {
+                throw new IOException("No ImageIO writer for " + format);
+            }
+            storage.store(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private List<Spec> specs(String original) {
+        List<Spec> specs = new ArrayList<>(widths.length + 1);
+        specs.add(thumbnailSpec(original));
+        for (int width : widths) {
+            specs.add(widthSpec(original, width));
+        }
+        return specs;
+    }
+
+    private Spec thumbnailSpec(String original) {
+        return spec(original, "_thumb", thumbnailWidth, thumbnailHeight);
+    }
+
+    private Spec widthSpec(String original, int width) {
+        return spec(original, "_w" + width, width, Integer.MAX_VALUE);
+    }
+
+    private Spec spec(String original, String suffix, int maxWidth, int maxHeight) {
+        String directory = original.substring(0, original.lastIndexOf('/') + 1);
+        String outputFormat = outputFormat(FilenameUtils.getExtension(original).toLowerCase(Locale.ROOT));
+        String target = directory + FilenameUtils.getBaseName(original) + suffix + "." + outputFormat;
+        return new Spec(target, outputFormat, maxWidth, maxHeight);
+    }
+
+    private String outputFormat(String sourceExtension) {
+        if (format != null && ALPHA_FORMATS.contains(format)) {
+            return format;
+        }
+        if ("png".equals(sourceExtension)) {
+            return "png";
+        }
+        return format != null ? format : "jpg";
+    }
+
+    private static final class Spec {
+        private final String target;
+        private final String format;
+        private final int maxWidth;
+        private final int maxHeight;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+
+        private Spec(String target, String format, int maxWidth, int maxHeight) {
+            this.target = target;
+            this.format = format;
+            this.maxWidth = maxWidth;
+            this.maxHeight = maxHeight;
+        }
+
+        /**
+         * 원본 대비 축소 비율 (확대하지 않음)
+         */
+        private double scale(int sourceWidth, int sourceHeight) {
+            return Math.min(1.0, Math.min((double) maxWidth / sourceWidth, (double) maxHeight / sourceHeight));
+        }
+    }
+}
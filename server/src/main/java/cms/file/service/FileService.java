@@ -3,21 +3,51 @@ package cms.file.service;
 import cms.file.entity.CmsFile;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface FileService {
     List<CmsFile> uploadFiles(String menu, Long menuId, List<MultipartFile> files);
 
+    /**
+     * 모두 받은 분할 업로드 세션으로 파일을 등록합니다. (uploadFiles 와 같은 방식으로 저장)
+     *
+     * @param uploadId 분할 업로드 세션 ID
+     * @param sha256   전체 파일 SHA-256 (없으면 확인 생략)
+     * @return 등록된 파일
+     */
+    CmsFile completeChunkedUpload(String uploadId, String sha256);
+
     List<CmsFile> getList(String menu, Long menuId, String publicYn);
 
     List<CmsFile> getPublicList(String menu, Long menuId);
 
+    /**
+     * 여러 menuId 의 파일 수를 한 번의 쿼리로 조회합니다.
+     *
+     * @param menu    메뉴 타입
+     * @param menuIds 대상 menuId 목록
+     * @return menuId 별 파일 수 (파일 없는 menuId 는 포함되지 않음)
+     */
+    Map<Long, Long> countByMenuIds(String menu, Collection<Long> menuIds);
+
     CmsFile getFile(Long fileId);
 
     CmsFile updateFile(Long fileId, CmsFile file);
 
     void deleteFile(Long fileId);
 
+    /**
+     * 여러 메뉴 타입/menuId 에 연결된 파일을 한 번에 삭제합니다.
+     * 파일 행은 한 번의 쿼리로 조회해 일괄 삭제하고, 실제 파일은 트랜잭션 커밋 후 삭제합니다.
+     *
+     * @param menus   메뉴 타입 목록
+     * @param menuIds 대상 menuId 목록
+     * @return 삭제한 파일 수
+     */
+    int deleteFilesByMenuIds(Collection<String> menus, Collection<Long> menuIds);
+
     void updateFileOrder(List<CmsFile> files);
 
     Resource loadFileAsResource(String savedName);
@@ -1,18 +1,27 @@
 package cms.file.service.impl;
 
+import cms.board.service.BbsArticleListCache;
 import cms.file.entity.CmsFile;
 import cms.file.repository.FileRepository;
+import cms.file.service.ChunkedUploadStore;
+import cms.file.service.FileBlobStore;
+import cms.file.service.FileDerivativeGenerator;
 import cms.file.service.FileService;
+import cms.file.storage.StorageStrategy;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import org.apache.commons.io.FilenameUtils;
 import cms.board.repository.BbsArticleRepository;
@@ -20,14 +29,13 @@ import java.util.ArrayList;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -35,65 +43,132 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class FileServiceImpl implements FileService {
 
+    private static final String ARTICLE_ATTACHMENT_MENU_TYPE = "ARTICLE_ATTACHMENT";
+
     private final FileRepository fileRepository;
     private final BbsArticleRepository bbsArticleRepository;
-
-    @Value("${spring.file.storage.local.base-path}")
-    private String basePath;
+    private final FileDerivativeGenerator derivativeGenerator;
+    private final FileBlobStore fileBlobStore;
+    private final ChunkedUploadStore chunkedUploadStore;
+    private final StorageStrategy storage;
+    private final BbsArticleListCache articleListCache;
 
     @Override
     @Transactional
     public List<CmsFile> uploadFiles(String menu, Long menuId, List<MultipartFile> files) {
         List<CmsFile> uploadedFiles = new ArrayList<>();
+        List<String> images = new ArrayList<>();
+        List<MultipartFile> accepted = new ArrayList<>();
+        List<FileBlobStore.StagedBlob> staged = new ArrayList<>();
 
-        for (MultipartFile file : files) {
-            if (file != null && !file.isEmpty()) {
-                String originalFilename = file.getOriginalFilename();
-                String ext = FilenameUtils.getExtension(originalFilename);
-                String uuidFileName = generateUUIDFileName(ext);
-
-                String dateSubDir = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-                // DB에 저장될 상대 경로: "<uploadPath>/<date>/<uuid.ext>"
-                String relativeSavePath = Paths.get(dateSubDir, uuidFileName).toString().replace("\\", "/");
-
+        try {
+            // 1) 첫 SQL 전에 모든 내용을 저장소에 기록 (대용량/S3 업로드 동안 커넥션과 행 잠금을 잡지 않음)
+            for (MultipartFile file : files) {
+                if (file != null && !file.isEmpty()) {
+                    String originalFilename = file.getOriginalFilename();
+                    try {
+                        staged.add(fileBlobStore.stage(file, FilenameUtils.getExtension(originalFilename)));
+                        accepted.add(file);
+                    } catch (IOException ex) {
+                        throw new RuntimeException(
+                                "Could not store file " + originalFilename + ". Error: " + ex.getMessage(), ex);
+                    }
+                }
+            }
+            // 2) 참조 수 증가와 file 행 저장만 트랜잭션에서 처리 (같은 내용이 이미 있으면 참조 수만 증가)
+            for (int i = 0; i < accepted.size(); i++) {
+                MultipartFile file = accepted.get(i);
                 try {
-                    // 물리적 파일 저장 경로: "<basePath>/<uploadPath>/<date>/<uuid.ext>"
-                    Path targetDirectory = Paths.get(basePath, dateSubDir);
-                    Files.createDirectories(targetDirectory);
-                    Path targetLocation = targetDirectory.resolve(uuidFileName);
-
-                    Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-
-                    CmsFile fileEntity = new CmsFile();
-                    fileEntity.setMenu(menu); // "BBS", "CONTENT" 등
-                    fileEntity.setMenuId(menuId);
-                    fileEntity.setOriginName(originalFilename);
-                    fileEntity.setSavedName(relativeSavePath); // 타입, 날짜 포함 상대 경로 저장
-                    fileEntity.setMimeType(file.getContentType());
-                    fileEntity.setSize(file.getSize());
-                    fileEntity.setExt(ext);
-                    fileEntity.setPublicYn("Y");
-
-                    Integer maxOrder = fileRepository.findMaxFileOrder(menu, menuId);
-                    fileEntity.setFileOrder(maxOrder != null ? maxOrder + 1 : 0);
-
-                    uploadedFiles.add(fileRepository.save(fileEntity));
+                    FileBlobStore.StoredBlob blob = fileBlobStore.register(staged.get(i));
+                    uploadedFiles.add(saveFile(menu, menuId, file.getOriginalFilename(), file.getContentType(), blob,
+                            images));
                 } catch (IOException ex) {
                     throw new RuntimeException(
-                            "Could not store file " + originalFilename + ". Error: " + ex.getMessage(), ex);
+                            "Could not store file " + file.getOriginalFilename() + ". Error: " + ex.getMessage(), ex);
                 }
             }
+        } finally {
+            staged.forEach(fileBlobStore::discard);
+        }
+        scheduleDerivatives(images);
+        if (!uploadedFiles.isEmpty()) {
+            invalidateArticle(menu, menuId);
         }
         return uploadedFiles;
     }
 
-    private String generateUUIDFileName(String extension) {
-        String uuid = UUID.randomUUID().toString().replace("-", "");
-        if (extension != null && !extension.isEmpty()) {
-            return String.format("%s.%s", uuid, extension);
+    @Override
+    @Transactional
+    public CmsFile completeChunkedUpload(String uploadId, String sha256) {
+        ChunkedUploadStore.UploadSession session;
+        try {
+            session = chunkedUploadStore.getSession(uploadId);
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not read upload session " + uploadId + ". Error: " + ex.getMessage(), ex);
+        }
+        String originalFilename = session.getFileName();
+        List<String> images = new ArrayList<>();
+        try {
+            // 받은 파일을 첫 SQL 전에 저장소로 옮기고 (세션 파일은 커밋 후 삭제), 트랜잭션에서는 참조와 file 행만 처리
+            FileBlobStore.StagedBlob staged = fileBlobStore.stage(chunkedUploadStore.completedPart(session),
+                    FilenameUtils.getExtension(originalFilename), sha256);
+            FileBlobStore.StoredBlob blob = fileBlobStore.register(staged);
+            CmsFile saved = saveFile(session.getMenu(), session.getMenuId(), originalFilename,
+                    session.getContentType(), blob, images);
+            scheduleDerivatives(images);
+            invalidateArticle(session.getMenu(), session.getMenuId());
+            runAfterCommit(() -> chunkedUploadStore.remove(uploadId));
+            return saved;
+        } catch (IOException ex) {
+            throw new RuntimeException(
+                    "Could not store file " + originalFilename + ". Error: " + ex.getMessage(), ex);
+        }
+    }
+
+    private CmsFile saveFile(String menu, Long menuId, String originalFilename, String clientContentType,
+            FileBlobStore.StoredBlob blob, List<String> images) {
+        CmsFile fileEntity = new CmsFile();
+        fileEntity.setMenu(menu); // "BBS", "CONTENT" 등
+        fileEntity.setMenuId(menuId);
+        fileEntity.setOriginName(originalFilename);
+        fileEntity.setSavedName(blob.getSavedName());
+        fileEntity.setContentHash(blob.getContentHash());
+        fileEntity.setMimeType(resolveMimeType(originalFilename, clientContentType));
+        fileEntity.setSize(blob.getSize());
+        fileEntity.setExt(FilenameUtils.getExtension(originalFilename));
+        fileEntity.setPublicYn("Y");
+
+        Integer maxOrder = fileRepository.findMaxFileOrder(menu, menuId);
+        fileEntity.setFileOrder(maxOrder != null ? maxOrder + 1 : 0);
+
+        CmsFile saved = fileRepository.save(fileEntity);
+        // 이미 있던 내용은 파생본도 이미 있음
+        if (blob.isCreated() && derivativeGenerator.supports(blob.getSavedName())) {
+            images.add(blob.getSavedName());
+        }
+        return saved;
+    }
+
+    private void scheduleDerivatives(List<String> images) {
+        if (!images.isEmpty()) {
+            // 썸네일/반응형 파생본은 커밋 후 별도 작업 풀에서 생성
+            runAfterCommit(() -> images.forEach(derivativeGenerator::scheduleAll));
+        }
+    }
+
+    /**
+     * 저장 시 MIME 타입 확정 (공개 조회 때 다시 판별하지 않음)
+     * - 확장자 기준 우선 (클라이언트가 보낸 Content-Type 은 임의 값일 수 있음), 모르는 확장자면 클라이언트 값
+     */
+    private static String resolveMimeType(String originalFilename, String clientContentType) {
+        Optional<MediaType> byName = MediaTypeFactory.getMediaType(originalFilename);
+        if (byName.isPresent()) {
+            return byName.get().toString();
+        }
+        if (clientContentType != null && !clientContentType.trim().isEmpty()) {
+            return clientContentType;
         }
-        return uuid;
+        return MediaType.APPLICATION_OCTET_STREAM_VALUE;
     }
 
     @Override
@@ -106,6 +181,19 @@ public class FileServiceImpl implements FileService {
         return fileRepository.findByMenuAndMenuIdOrderByFileOrderAsc(menu, menuId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> countByMenuIds(String menu, Collection<Long> menuIds) {
+        if (menuIds == null || menuIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : fileRepository.countByMenuAndMenuIdIn(menu, menuIds)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public CmsFile getFile(Long fileId) {
@@ -123,6 +211,7 @@ public class FileServiceImpl implements FileService {
 
         existingFile.setPublicYn(fileDetails.getPublicYn());
         existingFile.setFileOrder(fileDetails.getFileOrder());
+        invalidateArticle(existingFile.getMenu(), existingFile.getMenuId());
 
         return fileRepository.save(existingFile);
     }
@@ -133,14 +222,51 @@ public class FileServiceImpl implements FileService {
         CmsFile file = fileRepository.findById(fileId)
                 .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다. ID: " + fileId));
 
-        try {
-            Path filePath = Paths.get(basePath, file.getSavedName());
-            Files.deleteIfExists(filePath);
-        } catch (IOException e) {
-            System.err.println("Error deleting physical file: " + e.getMessage());
+        fileBlobStore.release(Collections.singletonList(file));
+        fileRepository.delete(file);
+        invalidateArticle(file.getMenu(), file.getMenuId());
+    }
+
+    /**
+     * 게시글 첨부파일 변경 시 게시글 상세/목록 캐시 버전 증가 (커밋 후, 첨부 수와 상세 ETag 반영)
+     */
+    private void invalidateArticle(String menu, Long nttId) {
+        if (!ARTICLE_ATTACHMENT_MENU_TYPE.equals(menu) || nttId == null) {
+            return;
         }
+        bbsArticleRepository.findById(nttId).ifPresent(article -> articleListCache.invalidate(
+                article.getBbsMaster().getBbsId(),
+                article.getMenu() != null ? article.getMenu().getId() : null,
+                Collections.singletonList(nttId)));
+    }
 
-        fileRepository.delete(file);
+    @Override
+    @Transactional
+    public int deleteFilesByMenuIds(Collection<String> menus, Collection<Long> menuIds) {
+        if (menus == null || menus.isEmpty() || menuIds == null || menuIds.isEmpty()) {
+            return 0;
+        }
+        List<CmsFile> files = fileRepository.findByMenuInAndMenuIdIn(menus, menuIds);
+        if (files.isEmpty()) {
+            return 0;
+        }
+        fileRepository.deleteAllInBatch(files);
+        fileBlobStore.release(files);
+        return files.size();
+    }
+
+    // 현재 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시)
+    private static void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
     }
 
     @Override
@@ -162,8 +288,15 @@ public class FileServiceImpl implements FileService {
 
     @Override
     public Resource loadFileAsResource(String savedName) {
+        if (!storage.exists(savedName)) {
+            throw new RuntimeException("File not found or not readable: " + savedName);
+        }
+        Path filePath = storage.getLocalPath(savedName);
+        if (filePath == null) {
+            // 로컬 파일이 없는 저장소는 스트림으로 제공
+            return new InputStreamResource(storage.download(savedName));
+        }
         try {
-            Path filePath = Paths.get(basePath).resolve(savedName).normalize();
             Resource resource = new UrlResource(filePath.toUri());
             if (resource.exists() && resource.isReadable()) {
                 return resource;
@@ -225,15 +358,11 @@ public class FileServiceImpl implements FileService {
 
         for (CmsFile file : filesToDelete) {
             try {
-                Path filePath = Paths.get(basePath, file.getSavedName());
-                Files.deleteIfExists(filePath);
+                fileBlobStore.release(Collections.singletonList(file));
                 fileRepository.delete(file);
                 deletedCount++;
                 log.info("Orphaned file deleted (Article ID: {} not found): File ID={}, Stored Name={}",
                         file.getMenuId(), file.getFileId(), file.getSavedName());
-            } catch (IOException e) {
-                log.error("Error deleting physical orphaned file: {}. File ID: {}, Stored Name: {}", e.getMessage(),
-                        file.getFileId(), file.getSavedName(), e);
             } catch (Exception e) {
                 log.error("Error deleting orphaned file record from DB: {}. File ID: {}, Stored Name: {}",
                         e.getMessage(), file.getFileId(), file.getSavedName(), e);
@@ -1,27 +1,41 @@
 package cms.file.storage;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 
+/**
+ * 로컬 디스크 저장소 (spring.file.storage.type: local, 기본값)
+ * - 작업 디렉터리를 base-path 아래에 두어 store 가 복사 없이 원자적 이동
+ */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "spring.file.storage.type", havingValue = "local", matchIfMissing = true)
 public class LocalStorageStrategy implements StorageStrategy {
 
+    private static final String STAGING_DIR = ".staging";
+
     @Value("${spring.file.storage.local.base-path}")
     private String basePath;
 
     @Override
     public String upload(MultipartFile file, String path) {
         try {
-            Path targetPath = Paths.get(basePath, path);
+            Path targetPath = resolve(path);
             Files.createDirectories(targetPath.getParent());
             Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
             return path;
@@ -31,10 +45,28 @@ public class LocalStorageStrategy implements StorageStrategy {
         }
     }
 
+    @Override
+    public void store(Path source, String path) throws IOException {
+        Path target = resolve(path);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // 다른 파일시스템: 대상 디렉터리에 복사한 뒤 이동해 읽는 쪽이 쓰는 중인 파일을 보지 않도록 함
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try {
+                Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
     @Override
     public InputStream download(String path) {
         try {
-            Path filePath = Paths.get(basePath, path);
+            Path filePath = resolve(path);
             return Files.newInputStream(filePath);
         } catch (IOException e) {
             log.error("Failed to download file: {}", path, e);
@@ -42,10 +74,33 @@ public class LocalStorageStrategy implements StorageStrategy {
         }
     }
 
+    @Override
+    public InputStream download(String path, long start, long end) throws IOException {
+        FileChannel channel = FileChannel.open(resolve(path), StandardOpenOption.READ);
+        try {
+            channel.position(start);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new BoundedInputStream(Channels.newInputStream(channel), end - start + 1);
+    }
+
+    @Override
+    public StoredObject stat(String path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(resolve(path), BasicFileAttributes.class);
+        return new StoredObject(attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+
+    @Override
+    public boolean exists(String path) {
+        return Files.exists(resolve(path));
+    }
+
     @Override
     public void delete(String path) {
         try {
-            Path filePath = Paths.get(basePath, path);
+            Path filePath = resolve(path);
             Files.deleteIfExists(filePath);
         } catch (IOException e) {
             log.error("Failed to delete file: {}", path, e);
@@ -57,4 +112,27 @@ public class LocalStorageStrategy implements StorageStrategy {
     public String getUrl(String path) {
         return "/files/" + path;
     }
-} 
\ No newline at end of file
+
+    @Override
+    public Path getLocalPath(String path) {
+        return resolve(path);
+    }
+
+    @Override
+    public Path stagingDirectory(String name) throws IOException {
+        return Files.createDirectories(root().resolve(STAGING_DIR).resolve(name));
+    }
+
+    private Path resolve(String path) {
+        Path root = root();
+        Path resolved = root.resolve(path).normalize();
+        if (!resolved.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid storage path: " + path);
+        }
+        return resolved;
+    }
+
+    private Path root() {
+        return Paths.get(basePath).toAbsolutePath().normalize();
+    }
+}
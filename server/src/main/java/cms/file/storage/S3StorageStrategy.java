@@ -0,0 +1,202 @@
+package cms.file.storage;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.amazonaws.services.s3.transfer.Upload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * S3 호환 객체 저장소 (spring.file.storage.type: s3)
+ * - endpoint 를 지정하면 MinIO 등 S3 호환 서버 사용 (보통 path-style-access: true 와 함께)
+ * - 업로드는 TransferManager 로 part-size 단위 멀티파트 스트리밍 (전체를 메모리에 올리지 않음)
+ * - 부분 읽기는 Range GET 으로 필요한 구간만 받음
+ * - access-key 가 비어 있으면 기본 자격 증명 체인 (환경 변수, 인스턴스 프로파일 등)
+ * - 업로드 작업 디렉터리는 노드 로컬 디스크 (local.base-path 아래)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.file.storage.type", havingValue = "s3")
+public class S3StorageStrategy implements StorageStrategy {
+
+    private static final String STAGING_DIR = ".staging";
+    private static final int NOT_FOUND = 404;
+
+    private final AmazonS3 s3;
+    private final TransferManager transferManager;
+    private final String bucket;
+    private final String cdnUrl;
+    private final String stagingBasePath;
+
+    public S3StorageStrategy(@Value("${spring.file.storage.s3.bucket}") String bucket,
+            @Value("${spring.file.storage.s3.region}") String region,
+            @Value("${spring.file.storage.s3.endpoint:}") String endpoint,
+            @Value("${spring.file.storage.s3.path-style-access:false}") boolean pathStyleAccess,
+            @Value("${spring.file.storage.s3.access-key:}") String accessKey,
+            @Value("${spring.file.storage.s3.secret-key:}") String secretKey,
+            @Value("${spring.file.storage.s3.part-size:16777216}") long partSize,
+            @Value("${spring.file.storage.s3.cdn-url:}") String cdnUrl,
+            @Value("${spring.file.storage.local.base-path}") String stagingBasePath) {
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withPathStyleAccessEnabled(pathStyleAccess)
+                .withCredentials(credentials(accessKey, secretKey));
+        if (endpoint != null && !endpoint.trim().isEmpty()) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint.trim(), region));
+        } else {
+            builder.withRegion(region);
+        }
+        this.s3 = builder.build();
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(s3)
+                .withMinimumUploadPartSize(partSize)
+                .withMultipartUploadThreshold(partSize)
+                .build();
+        this.bucket = bucket;
+        this.cdnUrl = cdnUrl != null && cdnUrl.endsWith("/") ? cdnUrl.substring(0, cdnUrl.length() - 1) : cdnUrl;
+        this.stagingBasePath = stagingBasePath;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transferManager.shutdownNow(true);
+    }
+
+    @Override
+    public String upload(MultipartFile file, String path) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(file.getSize());
+        if (file.getContentType() != null) {
+            metadata.setContentType(file.getContentType());
+        }
+        try (InputStream in = file.getInputStream()) {
+            await(transferManager.upload(bucket, path, in, metadata), path);
+            return path;
+        } catch (IOException | AmazonClientException e) {
+            log.error("Failed to upload file: {}", path, e);
+            throw new RuntimeException("Failed to upload file", e);
+        }
+    }
+
+    @Override
+    public void store(Path source, String path) throws IOException {
+        try {
+            await(transferManager.upload(bucket, path, source.toFile()), path);
+        } catch (AmazonClientException e) {
+            throw new IOException("Failed to upload " + path + " to bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public InputStream download(String path) {
+        try {
+            return s3.getObject(bucket, path).getObjectContent();
+        } catch (AmazonClientException e) {
+            log.error("Failed to download file: {}", path, e);
+            throw new RuntimeException("Failed to download file", e);
+        }
+    }
+
+    @Override
+    public InputStream download(String path, long start, long end) throws IOException {
+        try {
+            return s3.getObject(new GetObjectRequest(bucket, path).withRange(start, end)).getObjectContent();
+        } catch (AmazonS3Exception e) {
+            throw translate(e, path);
+        } catch (AmazonClientException e) {
+            throw new IOException("Failed to read " + path + " from bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public StoredObject stat(String path) throws IOException {
+        try {
+            ObjectMetadata metadata = s3.getObjectMetadata(bucket, path);
+            long lastModified = metadata.getLastModified() != null ? metadata.getLastModified().getTime() : 0;
+            return new StoredObject(metadata.getContentLength(), lastModified);
+        } catch (AmazonS3Exception e) {
+            throw translate(e, path);
+        } catch (AmazonClientException e) {
+            throw new IOException("Failed to read metadata of " + path + " from bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public boolean exists(String path) {
+        return s3.doesObjectExist(bucket, path);
+    }
+
+    @Override
+    public void delete(String path) {
+        try {
+            s3.deleteObject(bucket, path);
+        } catch (AmazonClientException e) {
+            log.error("Failed to delete file: {}", path, e);
+            throw new RuntimeException("Failed to delete file", e);
+        }
+    }
+
+    @Override
+    public String getUrl(String path) {
+        if (cdnUrl != null && !cdnUrl.isEmpty()) {
+            return cdnUrl + "/" + path;
+        }
+        return s3.getUrl(bucket, path).toString();
+    }
+
+    @Override
+    public Path getLocalPath(String path) {
+        return null;
+    }
+
+    @Override
+    public Path stagingDirectory(String name) throws IOException {
+        return Files.createDirectories(Paths.get(stagingBasePath).toAbsolutePath().resolve(STAGING_DIR).resolve(name));
+    }
+
+    private static void await(Upload upload, String path) throws IOException {
+        try {
+            upload.waitForCompletion();
+        } catch (InterruptedException e) {
+            upload.abort();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while uploading " + path);
+        }
+    }
+
+    private IOException translate(AmazonS3Exception e, String path) {
+        if (e.getStatusCode() == NOT_FOUND) {
+            return new NoSuchFileException(path);
+        }
+        return new IOException("Failed to read " + path + " from bucket " + bucket, e);
+    }
+
+    private static AWSCredentialsProvider credentials(String accessKey, String secretKey) {
+        if (accessKey == null || accessKey.trim().isEmpty()) {
+            return DefaultAWSCredentialsProviderChain.getInstance();
+        }
+        return new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey.trim(), secretKey));
+    }
+}
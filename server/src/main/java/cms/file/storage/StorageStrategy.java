@@ -1,11 +1,48 @@
 package cms.file.storage;
 
 import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
+/**
+ * 파일 저장소 (spring.file.storage.type 으로 선택: local | s3)
+ * - path 는 저장소 기준 상대 경로 (CmsFile.savedName)
+ */
 public interface StorageStrategy {
     String upload(MultipartFile file, String path);
+
+    /**
+     * 로컬 파일을 path 에 저장 (같은 파일시스템이면 이동하므로 호출 후 source 는 없을 수 있음)
+     */
+    void store(Path source, String path) throws IOException;
+
     InputStream download(String path);
+
+    /**
+     * start ~ end (포함) 구간만 읽기
+     */
+    InputStream download(String path, long start, long end) throws IOException;
+
+    /**
+     * @throws java.nio.file.NoSuchFileException 없을 때
+     */
+    StoredObject stat(String path) throws IOException;
+
+    boolean exists(String path);
+
     void delete(String path);
+
     String getUrl(String path);
-} 
\ No newline at end of file
+
+    /**
+     * 로컬 디스크 경로 (로컬 저장소가 아니면 null - sendfile 등 파일 직접 접근 불가)
+     */
+    Path getLocalPath(String path);
+
+    /**
+     * 저장 전 파일을 모으는 노드 로컬 작업 디렉터리 (로컬 저장소면 같은 파일시스템이라 store 가 이동만 함)
+     */
+    Path stagingDirectory(String name) throws IOException;
+}
@@ -0,0 +1,14 @@
+package cms.file.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장된 객체 정보 (조건부 요청/Range 처리용)
+ */
+@Getter
+@AllArgsConstructor
+public class StoredObject {
+    private final long size;
+    private final long lastModified;
+}
@@ -1,5 +1,6 @@
 package cms.popup.service.impl;
 
+import cms.common.editor.EditorContentProcessor;
 import cms.file.entity.CmsFile;
 import cms.file.service.FileService;
 import cms.popup.domain.Popup;
@@ -9,18 +10,13 @@ import cms.popup.dto.PopupDto;
 import cms.popup.dto.PopupRes;
 import cms.popup.repository.PopupRepository;
 import cms.popup.service.PopupService;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.persistence.EntityNotFoundException;
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -32,10 +28,7 @@ public class PopupServiceImpl implements PopupService {
 
     private final PopupRepository popupRepository;
     private final FileService fileService;
-    private final ObjectMapper objectMapper;
-
-    @Value("${app.api.base-url}")
-    private String appApiBaseUrl;
+    private final EditorContentProcessor contentProcessor;
 
     private static final String POPUP_FILE_CATEGORY = "POPUP_CONTENT";
 
@@ -78,7 +71,8 @@ public class PopupServiceImpl implements PopupService {
             }
 
             if (!localIdToFileIdMap.isEmpty()) {
-                finalContentJson = replaceLocalIdsInJson(contentJson, localIdToFileIdMap);
+                finalContentJson = contentProcessor
+                        .process(contentJson, localIdToFileIdMap, EditorContentProcessor.Profile.POPUP).getContent();
             }
         }
 
@@ -112,38 +106,6 @@ public class PopupServiceImpl implements PopupService {
                 .collect(Collectors.toList());
     }
 
-    private String replaceLocalIdsInJson(String editorContentJson, Map<String, Long> localIdToFileIdMap) {
-        if (editorContentJson == null || editorContentJson.isEmpty() || localIdToFileIdMap == null
-                || localIdToFileIdMap.isEmpty()) {
-            return editorContentJson;
-        }
-        try {
-            JsonNode rootNode = objectMapper.readTree(editorContentJson);
-            traverseAndReplace(rootNode, localIdToFileIdMap);
-            return objectMapper.writeValueAsString(rootNode);
-        } catch (IOException e) {
-            log.error("Error processing JSON for replacing local IDs: {}", e.getMessage(), e);
-            return editorContentJson;
-        }
-    }
-
-    private void traverseAndReplace(JsonNode node, Map<String, Long> localIdToFileIdMap) {
-        if (node.isObject()) {
-            ObjectNode objectNode = (ObjectNode) node;
-            if ("image".equals(objectNode.path("type").asText()) && objectNode.has("src")) {
-                String src = objectNode.get("src").asText();
-                if (localIdToFileIdMap.containsKey(src)) {
-                    long fileId = localIdToFileIdMap.get(src);
-                    objectNode.put("src", appApiBaseUrl + "/api/v1/cms/file/public/view/" + fileId);
-                    objectNode.put("fileId", fileId);
-                }
-            }
-            node.fields().forEachRemaining(entry -> traverseAndReplace(entry.getValue(), localIdToFileIdMap));
-        } else if (node.isArray()) {
-            node.forEach(element -> traverseAndReplace(element, localIdToFileIdMap));
-        }
-    }
-
     @Override
     @Transactional
     public PopupDto updatePopup(Long popupId, cms.popup.dto.PopupUpdateReq popupUpdateReq, String contentJson,
@@ -155,8 +117,8 @@ public class PopupServiceImpl implements PopupService {
         // 1. 기존 콘텐츠에서 파일 ID 추출
         Set<Long> oldFileIds = extractFileIdsFromJson(popup.getContent());
 
-        // 2. 새 파일 업로드 및 새 콘텐츠 생성
-        String finalContentJson = contentJson;
+        // 2. 새 파일 업로드 및 새 콘텐츠 생성 (치환과 파일 ID 추출을 한 번에 처리)
+        Map<String, Long> localIdToFileIdMap = new HashMap<>();
         if (mediaFiles != null && !mediaFiles.isEmpty()) {
             String[] mediaLocalIdsArray = (mediaLocalIds != null && !mediaLocalIds.isEmpty()) ? mediaLocalIds.split(",")
                     : new String[0];
@@ -164,18 +126,17 @@ public class PopupServiceImpl implements PopupService {
 
             if (!mediaLocalIdsList.isEmpty() && mediaFiles.size() == mediaLocalIdsList.size()) {
                 List<CmsFile> uploadedFiles = fileService.uploadFiles(POPUP_FILE_CATEGORY, popupId, mediaFiles);
-                Map<String, Long> localIdToFileIdMap = new HashMap<>();
                 for (int i = 0; i < mediaLocalIdsList.size(); i++) {
                     localIdToFileIdMap.put(mediaLocalIdsList.get(i), uploadedFiles.get(i).getFileId());
                 }
-                if (!localIdToFileIdMap.isEmpty()) {
-                    finalContentJson = replaceLocalIdsInJson(contentJson, localIdToFileIdMap);
-                }
             }
         }
 
         // 3. 새 콘텐츠에서 파일 ID 추출
-        Set<Long> newFileIds = extractFileIdsFromJson(finalContentJson);
+        EditorContentProcessor.Result newContent = contentProcessor.process(contentJson, localIdToFileIdMap,
+                EditorContentProcessor.Profile.POPUP);
+        String finalContentJson = newContent.getContent();
+        Set<Long> newFileIds = newContent.getFileIds();
 
         // 4. 고아 파일 삭제
         oldFileIds.stream()
@@ -258,28 +219,6 @@ public class PopupServiceImpl implements PopupService {
     }
 
     private Set<Long> extractFileIdsFromJson(String jsonContent) {
-        if (jsonContent == null || jsonContent.isEmpty()) {
-            return Collections.emptySet();
-        }
-        Set<Long> fileIds = new HashSet<>();
-        try {
-            JsonNode rootNode = objectMapper.readTree(jsonContent);
-            traverseAndExtract(rootNode, fileIds);
-        } catch (IOException e) {
-            log.error("Error parsing JSON for extracting file IDs: {}", e.getMessage(), e);
-        }
-        return fileIds;
-    }
-
-    private void traverseAndExtract(JsonNode node, Set<Long> fileIds) {
-        if (node.isObject()) {
-            ObjectNode objectNode = (ObjectNode) node;
-            if ("image".equals(objectNode.path("type").asText()) && objectNode.has("fileId")) {
-                fileIds.add(objectNode.get("fileId").asLong());
-            }
-            node.fields().forEachRemaining(entry -> traverseAndExtract(entry.getValue(), fileIds));
-        } else if (node.isArray()) {
-            node.forEach(element -> traverseAndExtract(element, fileIds));
-        }
+        return contentProcessor.analyze(jsonContent, EditorContentProcessor.Profile.POPUP).getFileIds();
     }
 }
\ No newline at end of file
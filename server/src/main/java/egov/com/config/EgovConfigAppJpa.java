@@ -86,6 +86,9 @@ public class EgovConfigAppJpa {
         
         // Statement Logging
         properties.setProperty("hibernate.generate_statistics", "true");
+
+        // 요청별 DB 시간 집계 (tenant.http.requests.db)
+        properties.setProperty("hibernate.session.events.auto", "cms.config.RequestDbTimeListener");
         
         em.setJpaProperties(properties);
         
@@ -195,11 +195,14 @@ public class SecurityConfig {
 		return source;
 	}
 
+	// spring.servlet.multipart 설정과 같은 한도 사용 (큰 파일은 분할 업로드 API 사용)
 	@Bean
-	public MultipartConfigElement multipartConfigElement() {
+	public MultipartConfigElement multipartConfigElement(
+			@Value("${spring.servlet.multipart.max-file-size:100MB}") DataSize maxFileSize,
+			@Value("${spring.servlet.multipart.max-request-size:100MB}") DataSize maxRequestSize) {
 		MultipartConfigFactory factory = new MultipartConfigFactory();
-		factory.setMaxFileSize(DataSize.ofMegabytes(10));
-		factory.setMaxRequestSize(DataSize.ofMegabytes(10));
+		factory.setMaxFileSize(maxFileSize);
+		factory.setMaxRequestSize(maxRequestSize);
 		return factory.createMultipartConfig();
 	}
 }
\ No newline at end of file
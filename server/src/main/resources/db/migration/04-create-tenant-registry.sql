@@ -0,0 +1,15 @@
+-- 테넌트 레지스트리
+-- TenantRegistry 가 주기적으로 읽어 테넌트 식별(헤더/경로/호스트/Origin)에 사용
+-- hosts: 테넌트에 매핑할 호스트 또는 프론트엔드 URL (쉼표 구분, 예: arpina.example.com,https://arpina-cms.vercel.app)
+
+USE integrated_cms;
+
+CREATE TABLE IF NOT EXISTS `tenant_registry` (
+  `tenant_id` varchar(50) NOT NULL COMMENT '테넌트 ID',
+  `hosts` varchar(1000) DEFAULT NULL COMMENT '매핑 호스트 목록 (쉼표 구분)',
+  `description` varchar(255) DEFAULT NULL COMMENT '설명',
+  `enabled` tinyint(1) NOT NULL DEFAULT 1 COMMENT '사용 여부',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+  `updated_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+  PRIMARY KEY (`tenant_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='테넌트 레지스트리';
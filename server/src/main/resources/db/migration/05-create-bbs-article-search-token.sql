@@ -0,0 +1,14 @@
+-- 게시글 검색 역색인
+-- BbsArticleSearchIndexer 가 게시글 생성/수정/삭제 시 갱신 (제목, 작성자, 본문 평문, 작성일의 바이그램 토큰)
+-- 토큰은 소문자로 정규화해 저장하므로 바이너리 정렬 사용
+-- 기존 게시글 색인: POST /api/v1/cms/bbs/article/search-index/rebuild
+
+USE integrated_cms;
+
+CREATE TABLE IF NOT EXISTS `bbs_article_search_token` (
+  `token` varchar(8) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL COMMENT '바이그램 토큰',
+  `ntt_id` int(10) unsigned NOT NULL COMMENT 'FK: 게시글 ID',
+  PRIMARY KEY (`token`, `ntt_id`),
+  KEY `IDX_BBS_ARTICLE_SEARCH_TOKEN_NTT_ID` (`ntt_id`),
+  CONSTRAINT `fk_bbs_article_search_token_article` FOREIGN KEY (`ntt_id`) REFERENCES `bbs_article` (`NTT_ID`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='게시글 검색 역색인';
@@ -0,0 +1,7 @@
+-- 게시글 목록 키셋(커서) 페이지네이션용 복합 인덱스
+-- 목록 정렬(NOTICE_STATE DESC, CREATED_AT DESC, NTT_ID DESC)과 동일한 순서로 게시판/메뉴 범위를 역순 스캔
+
+USE integrated_cms;
+
+ALTER TABLE `bbs_article`
+  ADD INDEX IF NOT EXISTS `IDX_BBS_ARTICLE_LIST_KEYSET` (`BBS_ID`, `MENU_ID`, `NOTICE_STATE`, `CREATED_AT`, `NTT_ID`);
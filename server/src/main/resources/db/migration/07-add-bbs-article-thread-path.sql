@@ -0,0 +1,26 @@
+-- 게시글 스레드 경로 (materialized path)
+-- 루트부터 자신까지의 NTT_ID 를 10자리로 이어 붙인 경로 (예: 0000000012/0000000057/)
+-- 스레드 전체 조회(경로 순)와 하위 답변 일괄 삭제를 접두사 LIKE 한 번으로 처리
+-- 신규 게시글은 BbsArticleDomain.assignThreadPath 가 저장 시 지정, 기존 게시글은 아래에서 일괄 계산
+
+USE integrated_cms;
+
+ALTER TABLE `bbs_article`
+  ADD COLUMN IF NOT EXISTS `THREAD_PATH` varchar(255) CHARACTER SET ascii COLLATE ascii_bin DEFAULT NULL COMMENT '스레드 경로' AFTER `THREAD_DEPTH`,
+  ADD INDEX IF NOT EXISTS `IDX_BBS_ARTICLE_THREAD_PATH` (`THREAD_PATH`);
+
+UPDATE `bbs_article` a
+  JOIN (
+    WITH RECURSIVE thread AS (
+      SELECT `NTT_ID`, CAST(CONCAT(LPAD(`NTT_ID`, 10, '0'), '/') AS CHAR(255) CHARACTER SET ascii) AS path
+        FROM `bbs_article`
+       WHERE `PARENT_NTT_ID` IS NULL
+      UNION ALL
+      SELECT c.`NTT_ID`, CONCAT(t.path, LPAD(c.`NTT_ID`, 10, '0'), '/')
+        FROM `bbs_article` c
+        JOIN thread t ON c.`PARENT_NTT_ID` = t.`NTT_ID`
+    )
+    SELECT `NTT_ID`, path FROM thread
+  ) t ON a.`NTT_ID` = t.`NTT_ID`
+   SET a.`THREAD_PATH` = t.path
+ WHERE a.`THREAD_PATH` IS NULL;
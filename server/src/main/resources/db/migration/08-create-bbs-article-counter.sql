@@ -0,0 +1,24 @@
+-- 게시판/메뉴별 게시글 수
+-- BbsArticleCounter 가 게시글 생성/삭제/게시·공지 상태 변경 시 같은 트랜잭션에서 증감 (목록 페이지의 COUNT(*) 대체)
+-- 매일 app.board.counter.reconcile-cron 에 실제 행 수로 보정
+
+USE integrated_cms;
+
+CREATE TABLE IF NOT EXISTS `bbs_article_counter` (
+  `bbs_id` int(10) unsigned NOT NULL COMMENT 'FK: 게시판 ID',
+  `menu_id` int(11) NOT NULL COMMENT '메뉴 ID',
+  `total_count` bigint(20) NOT NULL DEFAULT 0 COMMENT '전체 게시글 수',
+  `published_count` bigint(20) NOT NULL DEFAULT 0 COMMENT '게시 상태(Y, P) 게시글 수',
+  `notice_count` bigint(20) NOT NULL DEFAULT 0 COMMENT '공지 상태(Y, P) 게시글 수',
+  `updated_at` timestamp NOT NULL DEFAULT current_timestamp() ON UPDATE current_timestamp() COMMENT '수정 시각',
+  PRIMARY KEY (`bbs_id`, `menu_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='게시판/메뉴별 게시글 수';
+
+INSERT INTO `bbs_article_counter` (`bbs_id`, `menu_id`, `total_count`, `published_count`, `notice_count`)
+SELECT `BBS_ID`, `MENU_ID`, COUNT(*), SUM(`PUBLISH_STATE` IN ('Y', 'P')), SUM(`NOTICE_STATE` IN ('Y', 'P'))
+  FROM `bbs_article`
+ GROUP BY `BBS_ID`, `MENU_ID`
+    ON DUPLICATE KEY UPDATE
+       `total_count` = VALUES(`total_count`),
+       `published_count` = VALUES(`published_count`),
+       `notice_count` = VALUES(`notice_count`);
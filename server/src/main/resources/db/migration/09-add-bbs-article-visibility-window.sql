@@ -0,0 +1,25 @@
+-- 게시/공지 기간 전환
+-- REQUESTED_*_STATE: 작성자가 지정한 상태, PUBLISH_STATE/NOTICE_STATE: 기간을 반영한 현재 상태 (목록 조회 조건)
+-- NEXT_TRANSITION_AT: 다음 기간 경계, BbsArticleVisibilityScheduler 가 이 시각에 현재 상태를 전환
+-- 기존 게시글은 지정 상태를 현재 상태로 채우고 앞으로 올 경계만 예약 (이미 지난 기간은 소급 적용하지 않음)
+
+USE integrated_cms;
+
+ALTER TABLE `bbs_article`
+  ADD COLUMN IF NOT EXISTS `REQUESTED_PUBLISH_STATE` varchar(1) DEFAULT NULL COMMENT '지정 게시 여부(Y=기간 게시,N=미게시,P=영구게시)' AFTER `PUBLISH_END_DT`,
+  ADD COLUMN IF NOT EXISTS `REQUESTED_NOTICE_STATE` varchar(1) DEFAULT NULL COMMENT '지정 공지 여부(Y=기간 공지,N=미공지,P=영구공지)' AFTER `REQUESTED_PUBLISH_STATE`,
+  ADD COLUMN IF NOT EXISTS `NEXT_TRANSITION_AT` datetime DEFAULT NULL COMMENT '다음 게시/공지 기간 경계' AFTER `REQUESTED_NOTICE_STATE`,
+  ADD INDEX IF NOT EXISTS `IDX_BBS_ARTICLE_NEXT_TRANSITION` (`NEXT_TRANSITION_AT`);
+
+UPDATE `bbs_article`
+   SET `REQUESTED_PUBLISH_STATE` = `PUBLISH_STATE`,
+       `REQUESTED_NOTICE_STATE` = `NOTICE_STATE`
+ WHERE `REQUESTED_PUBLISH_STATE` IS NULL;
+
+UPDATE `bbs_article`
+   SET `NEXT_TRANSITION_AT` = NULLIF(LEAST(
+         IF(`REQUESTED_PUBLISH_STATE` = 'Y' AND `PUBLISH_START_DT` > NOW(), `PUBLISH_START_DT`, '9999-12-31'),
+         IF(`REQUESTED_PUBLISH_STATE` = 'Y' AND `PUBLISH_END_DT` > NOW(), `PUBLISH_END_DT`, '9999-12-31'),
+         IF(`REQUESTED_NOTICE_STATE` = 'Y' AND `NOTICE_START_DT` > NOW(), `NOTICE_START_DT`, '9999-12-31'),
+         IF(`REQUESTED_NOTICE_STATE` = 'Y' AND `NOTICE_END_DT` > NOW(), `NOTICE_END_DT`, '9999-12-31')
+       ), '9999-12-31');
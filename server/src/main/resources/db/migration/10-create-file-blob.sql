@@ -0,0 +1,21 @@
+-- 내용 주소 기반 파일 저장 (SHA-256)
+-- FileBlobStore 가 같은 내용의 업로드를 한 파일로 저장하고 file 행과 같은 트랜잭션에서 참조 수 증감
+-- 같은 내용의 file 행은 saved_name 을 공유하므로 uk_saved_name 제거 (이전 파일은 content_hash NULL, 개별 삭제)
+
+USE integrated_cms;
+
+CREATE TABLE IF NOT EXISTS `file_blob` (
+  `content_hash` char(64) NOT NULL COMMENT 'PK: 내용 SHA-256 (hex)',
+  `saved_name` varchar(255) NOT NULL COMMENT '저장 파일명 (base-path 기준 상대 경로)',
+  `size` bigint(20) NOT NULL COMMENT '파일 크기(바이트)',
+  `ref_count` int(11) NOT NULL DEFAULT 0 COMMENT '참조하는 file 행 수',
+  `created_date` datetime NOT NULL DEFAULT current_timestamp() COMMENT '생성 일시',
+  `updated_date` datetime NOT NULL DEFAULT current_timestamp() ON UPDATE current_timestamp() COMMENT '수정 일시',
+  PRIMARY KEY (`content_hash`),
+  KEY `idx_file_blob_ref_count` (`ref_count`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='내용 주소 기반 파일 저장소';
+
+ALTER TABLE `file`
+  ADD COLUMN IF NOT EXISTS `content_hash` char(64) DEFAULT NULL COMMENT '내용 SHA-256 (file_blob, 이전 파일은 NULL)' AFTER `saved_name`,
+  DROP INDEX IF EXISTS `uk_saved_name`,
+  ADD KEY IF NOT EXISTS `idx_file_content_hash` (`content_hash`);